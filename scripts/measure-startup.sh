@@ -0,0 +1,87 @@
+#!/usr/bin/env bash
+# Compares startup of the plain jar with the AOT + CDS build of the fast-startup profile.
+#
+#   mvn -Pfast-startup package
+#   SPRING_DATASOURCE_URL=jdbc:postgresql://localhost/tasks SPRING_DATASOURCE_USERNAME=... \
+#   SPRING_DATASOURCE_PASSWORD=... scripts/measure-startup.sh [runs]
+#
+# For every run it records the startup time reported by Spring Boot, the time from launching the JVM
+# until GET /tasks first answers, and that first request's own latency. Results go to
+# target/startup-results.csv; the table printed at the end shows the median per variant.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${PORT:-8080}
+JAR_NAME=TaskManagementSystem-0.0.1-SNAPSHOT.jar
+PLAIN_JAR=target/$JAR_NAME
+EXTRACTED_JAR=target/application/$JAR_NAME
+CDS_ARCHIVE=target/application/application.jsa
+RESULTS=target/startup-results.csv
+URL="http://localhost:$PORT/tasks?pageSize=1"
+
+for file in "$PLAIN_JAR" "$EXTRACTED_JAR" "$CDS_ARCHIVE"; do
+    if [[ ! -f $file ]]; then
+        echo "Missing $file, build it with: mvn -Pfast-startup package" >&2
+        exit 1
+    fi
+done
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts the application with the given JVM options, waits for the first answered request and stops it.
+measure() {
+    local variant=$1 jar=$2
+    shift 2
+    local log=target/startup-$variant.log
+    local launched
+    launched=$(now_ms)
+    java "$@" -jar "$jar" --server.port="$PORT" > "$log" 2>&1 &
+    local pid=$!
+
+    local first_request=""
+    while kill -0 "$pid" 2>/dev/null; do
+        if first_request=$(curl -s -o /dev/null -f -w '%{time_total}' "$URL"); then
+            break
+        fi
+        first_request=""
+        sleep 0.05
+    done
+    local ready
+    ready=$(now_ms)
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+
+    if [[ -z $first_request ]]; then
+        echo "$variant did not start, see $log" >&2
+        exit 1
+    fi
+    local started
+    started=$(sed -n 's/.*Started App in \([0-9.]*\) seconds.*/\1/p' "$log")
+    echo "$variant,$started,$(( ready - launched )),$(awk -v s="$first_request" 'BEGIN { printf "%.1f", s * 1000 }')" \
+        >> "$RESULTS"
+}
+
+echo "variant,started_s,first_response_ms,first_request_ms" > "$RESULTS"
+for run in $(seq "$RUNS"); do
+    echo "Run $run/$RUNS"
+    measure plain "$PLAIN_JAR"
+    measure aot-cds "$EXTRACTED_JAR" -XX:SharedArchiveFile="$CDS_ARCHIVE" -Xlog:cds=off -Dspring.aot.enabled=true
+done
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print (NR % 2 ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2) }'
+}
+
+printf '\n%-8s %12s %20s %18s\n' variant started_s first_response_ms first_request_ms
+for variant in plain aot-cds; do
+    rows=$(grep "^$variant," "$RESULTS")
+    printf '%-8s %12s %20s %18s\n' "$variant" \
+        "$(cut -d, -f2 <<< "$rows" | median)" \
+        "$(cut -d, -f3 <<< "$rows" | median)" \
+        "$(cut -d, -f4 <<< "$rows" | median)"
+done
+echo "Raw results: $RESULTS"
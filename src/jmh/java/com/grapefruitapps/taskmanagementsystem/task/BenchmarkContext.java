@@ -0,0 +1,84 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import com.grapefruitapps.taskmanagementsystem.App;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Application context for benchmarks against a local PostgreSQL.
+ * Uses {@code -Dbenchmark.datasource.url} (with {@code .username}/{@code .password}) when given,
+ * otherwise starts an embedded PostgreSQL for the duration of the fork. Only the embedded database has
+ * its schema recreated; an external one is updated like on application start and must not contain tasks,
+ * so a benchmark never runs against data it did not create. Background jobs are disabled so they do not
+ * run during measurements.
+ */
+final class BenchmarkContext implements AutoCloseable {
+    private final EmbeddedPostgres embeddedPostgres;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(EmbeddedPostgres embeddedPostgres, ConfigurableApplicationContext context) {
+        this.embeddedPostgres = embeddedPostgres;
+        this.context = context;
+    }
+
+    static BenchmarkContext start() throws IOException {
+        Map<String, String> properties = new HashMap<>();
+        EmbeddedPostgres embeddedPostgres = null;
+        String url = System.getProperty("benchmark.datasource.url");
+        if (url != null) {
+            properties.put("spring.datasource.url", url);
+            properties.put("spring.datasource.username", System.getProperty("benchmark.datasource.username"));
+            properties.put("spring.datasource.password", System.getProperty("benchmark.datasource.password"));
+        } else {
+            embeddedPostgres = EmbeddedPostgres.start();
+            properties.put("spring.datasource.url", embeddedPostgres.getJdbcUrl("postgres", "postgres"));
+            properties.put("spring.datasource.username", "postgres");
+            properties.put("spring.datasource.password", "");
+            properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        }
+        properties.put("task.archive.enabled", "false");
+        properties.put("task.overdue.enabled", "false");
+        properties.put("task.outbox.relay.enabled", "false");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.com.grapefruitapps", "WARN");
+
+        SpringApplication application = new SpringApplication(App.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        BenchmarkContext benchmarkContext = new BenchmarkContext(embeddedPostgres, application.run(args));
+        if (embeddedPostgres == null) {
+            benchmarkContext.requireNoTasks(url);
+        }
+        return benchmarkContext;
+    }
+
+    private void requireNoTasks(String url) throws IOException {
+        Long tasks = getBean(JdbcTemplate.class).queryForObject(
+                "select (select count(*) from tasks) + (select count(*) from tasks_archive)", Long.class);
+        if (tasks != 0) {
+            close();
+            throw new IllegalStateException("Benchmark database " + url + " already contains tasks");
+        }
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        if (embeddedPostgres != null) {
+            embeddedPostgres.close();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lifecycle transitions of {@link TaskService} against PostgreSQL, see {@link BenchmarkContext}.
+ * Runs single-threaded: every operation goes through the in-progress counter row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class TaskLifecycleBenchmark {
+    private static final int BULK_SIZE = 100;
+
+    private BenchmarkContext context;
+    private TaskService service;
+    private Long taskId;
+    private List<Long> bulkTaskIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkContext.start();
+        service = context.getBean(TaskService.class);
+
+        taskId = service.createTask(new TaskDto(null, 1L, 1L, null, null, null, null, null)).getId();
+        service.startTask(taskId);
+
+        List<TaskDto> tasks = new ArrayList<>(BULK_SIZE);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            tasks.add(new TaskDto(null, 2L, 2L, null, null, null, null, null));
+        }
+        bulkTaskIds = service.createTasks(tasks);
+        service.startTasks(bulkTaskIds);
+        service.completeTasks(bulkTaskIds);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskDto completeAndResume() {
+        service.completeTask(taskId);
+        return service.resumeTask(taskId);
+    }
+
+    @Benchmark
+    public TaskDto getTaskById() {
+        return service.getTaskById(taskId);
+    }
+
+    /**
+     * Resume is capped, so only the first free slots are admitted; the rest measure rejection.
+     */
+    @Benchmark
+    public List<TaskTransitionOutcome> bulkResumeAndComplete() {
+        service.resumeTasks(bulkTaskIds);
+        return service.completeTasks(bulkTaskIds);
+    }
+}
@@ -0,0 +1,44 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+public class TaskMapperBenchmark {
+    private final TaskMapper mapper = new TaskMapper();
+    private TaskEntity entity;
+    private TaskDto dto;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        entity = new TaskEntity(1L, 2L, 3L, TaskStatus.IN_PROGRESS, now,
+                LocalDate.now().plusDays(7), null, TaskPriority.HIGH);
+        dto = mapper.toDto(entity);
+    }
+
+    @Benchmark
+    public TaskDto toDto() {
+        return mapper.toDto(entity);
+    }
+
+    @Benchmark
+    public TaskEntity toEntity() {
+        return mapper.toEntity(dto);
+    }
+}
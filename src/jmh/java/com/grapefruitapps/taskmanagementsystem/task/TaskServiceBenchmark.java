@@ -0,0 +1,92 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search paths of {@link TaskService} against PostgreSQL, see {@link BenchmarkContext}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class TaskServiceBenchmark {
+    private static final int TASK_COUNT = 100_000;
+    private static final int CREATORS = 100;
+    private static final int ASSIGNEES = 500;
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private BenchmarkContext context;
+    private TaskService service;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkContext.start();
+        service = context.getBean(TaskService.class);
+
+        TaskPriority[] priorities = TaskPriority.values();
+        List<TaskDto> tasks = new ArrayList<>(TaskService.MAX_BATCH_SIZE);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(new TaskDto(null, (long) (i % CREATORS), (long) (i % ASSIGNEES), null, null, null, null,
+                    priorities[i % priorities.length]));
+            if (tasks.size() == TaskService.MAX_BATCH_SIZE) {
+                service.createTasks(tasks);
+                tasks.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskSlice searchFirstPage() {
+        return service.searchAllByFilter(new TaskFilter(null, null, null, null, pageSize, null, null));
+    }
+
+    @Benchmark
+    public TaskSlice searchDeepPageByOffset() {
+        int pageNumber = TASK_COUNT / pageSize / 2;
+        return service.searchAllByFilter(new TaskFilter(null, null, null, null, pageSize, pageNumber, null));
+    }
+
+    @Benchmark
+    public TaskSlice searchDeepPageByKeyset() {
+        long afterId = TASK_COUNT / 2;
+        return service.searchAllByFilter(new TaskFilter(null, null, null, null, pageSize, null, afterId));
+    }
+
+    @Benchmark
+    public TaskSlice searchByAssigneeAndStatus() {
+        return service.searchAllByFilter(
+                new TaskFilter(null, 42L, TaskStatus.CREATED, null, pageSize, null, null));
+    }
+
+    @Benchmark
+    public TaskSlice searchByStatusAndPriority() {
+        return service.searchAllByFilter(
+                new TaskFilter(null, null, TaskStatus.CREATED, TaskPriority.HIGH, pageSize, null, null));
+    }
+}
@@ -0,0 +1,196 @@
+package com.grapefruitapps.taskmanagementsystem.loadtest;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a running application over HTTP at a fixed arrival rate with a weighted mix of
+ * {@link TaskOperation task operations} and reports throughput, latency percentiles and error rates
+ * per endpoint:
+ * <pre>
+ * mvn -Pload-test test-compile exec:exec -Dloadtest.args="--rate 200 --duration 120 --mix list=50,get=50"
+ * </pre>
+ * Requests are started on schedule whether or not earlier ones have completed (an open model). The same
+ * {@code --seed} replays the same sequence of operations and parameters, so reports of two releases can
+ * be diffed; only the picked task ids can differ once tasks created during the run join the pool.
+ * See {@link LoadTestOptions} for all options.
+ */
+public final class LoadTest {
+    private static final int SEED_BATCH_SIZE = 1_000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestOptions options;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final TaskIds taskIds = new TaskIds();
+    private final Map<TaskOperation, OperationStats> stats = new EnumMap<>(TaskOperation.class);
+    private final OperationStats totalStats = new OperationStats();
+
+    private LoadTest(LoadTestOptions options) {
+        this.options = options;
+        for (TaskOperation operation : options.mix().keySet()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.println("Load test: " + options.describe());
+        LoadTest loadTest = new LoadTest(options);
+        loadTest.seed();
+        loadTest.run();
+        loadTest.report();
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        Random random = new Random(options.seed() - 1);
+        for (int created = 0; created < options.seedTasks(); created += SEED_BATCH_SIZE) {
+            List<String> tasks = new ArrayList<>();
+            for (int i = 0; i < Math.min(SEED_BATCH_SIZE, options.seedTasks() - created); i++) {
+                tasks.add(TaskOperation.newTask(random, options.users()));
+            }
+            HttpRequest request = HttpRequest.newBuilder(options.baseUrl().resolve("/tasks/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("[" + String.join(",", tasks) + "]"))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding failed with " + response.statusCode() + ": " + response.body());
+            }
+            for (long id : jsonMapper.readValue(response.body(), long[].class)) {
+                taskIds.add(id);
+            }
+        }
+        System.out.println("Seeded " + taskIds.size() + " tasks");
+    }
+
+    private void run() throws InterruptedException {
+        Random random = new Random(options.seed());
+        TaskOperation[] schedule = weightedSchedule();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * TimeUnit.SECONDS.toNanos(1) / options.rate();
+            if (intendedStart >= end) {
+                break;
+            }
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+
+            TaskOperation operation = schedule[random.nextInt(schedule.length)];
+            Long id = operation.needsTaskId() ? taskIds.pick(random) : null;
+            HttpRequest request = operation.request(options.baseUrl(), id, random, options.users())
+                    .timeout(REQUEST_TIMEOUT)
+                    .build();
+            boolean measured = intendedStart >= measureFrom;
+            OperationStats operationStats = stats.get(operation);
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    operationStats.drop();
+                    totalStats.drop();
+                }
+                continue;
+            }
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+                inFlight.release();
+                long latency = System.nanoTime() - intendedStart;
+                int status = failure == null ? response.statusCode() : 0;
+                if (measured) {
+                    operationStats.record(latency, status);
+                    totalStats.record(latency, status);
+                }
+                if (operation == TaskOperation.CREATE && status == 201) {
+                    taskIds.add(jsonMapper.readTree(response.body()).get("id").asLong());
+                }
+            });
+        }
+        if (!inFlight.tryAcquire(options.maxInFlight(), REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            System.out.println("Some requests were still outstanding when the run ended");
+        }
+    }
+
+    private TaskOperation[] weightedSchedule() {
+        List<TaskOperation> schedule = new ArrayList<>();
+        options.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        return schedule.toArray(TaskOperation[]::new);
+    }
+
+    private void report() throws IOException {
+        StringBuilder report = new StringBuilder()
+                .append("# Task load test ").append(LocalDateTime.now()).append('\n')
+                .append("# ").append(options.describe()).append('\n')
+                .append(String.format("%-9s %-27s %9s %10s %9s %9s %7s %8s %7s %9s %9s %9s %9s%n",
+                        "operation", "endpoint", "requests", "req/s", "ok", "rejected", "errors", "dropped",
+                        "error%", "p50_ms", "p99_ms", "p99.9_ms", "max_ms"));
+        stats.forEach((operation, operationStats) ->
+                appendRow(report, operation.getName(), operation.getEndpoint(), operationStats));
+        appendRow(report, "total", "", totalStats);
+
+        Files.createDirectories(options.output().toAbsolutePath().getParent());
+        Files.writeString(options.output(), report);
+        System.out.print(report);
+        System.out.println("Report written to " + options.output());
+    }
+
+    private void appendRow(StringBuilder report, String operation, String endpoint, OperationStats operationStats) {
+        OperationStats.Summary summary = operationStats.summarize(options.durationSeconds());
+        report.append(String.format("%-9s %-27s %9d %10.1f %9d %9d %7d %8d %7.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, endpoint, summary.requests(), summary.throughput(), summary.ok(), summary.rejected(),
+                summary.errors(), summary.dropped(), summary.errorRate(), summary.p50(), summary.p99(),
+                summary.p999(), summary.max()));
+    }
+
+    /**
+     * Ids of tasks known to exist; created tasks are added as their responses arrive.
+     */
+    private static final class TaskIds {
+        private long[] ids = new long[1024];
+        private int size;
+
+        synchronized void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        synchronized Long pick(Random random) {
+            if (size == 0) {
+                throw new IllegalStateException("No tasks to operate on, seed some with --seed-tasks");
+            }
+            return ids[random.nextInt(size)];
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.grapefruitapps.taskmanagementsystem.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Command line options of {@link LoadTest}; every option has a default, so a bare run works against
+ * an application on {@code localhost:8080}:
+ * <ul>
+ *     <li>{@code --base-url} application to drive</li>
+ *     <li>{@code --rate} requests started per second</li>
+ *     <li>{@code --warmup}, {@code --duration} seconds of unreported warm-up and of measurement</li>
+ *     <li>{@code --mix} operation weights, {@value #DEFAULT_MIX} by default</li>
+ *     <li>{@code --seed-tasks} tasks created through {@code POST /tasks/batch} before the run</li>
+ *     <li>{@code --users} number of distinct creator and assignee ids</li>
+ *     <li>{@code --seed} random seed of the request sequence</li>
+ *     <li>{@code --max-in-flight} outstanding requests after which new ones are dropped and counted</li>
+ *     <li>{@code --output} report file, {@code target/loadtest/loadtest-<timestamp>.txt} by default</li>
+ * </ul>
+ */
+record LoadTestOptions(
+        URI baseUrl,
+        int rate,
+        int warmupSeconds,
+        int durationSeconds,
+        Map<TaskOperation, Integer> mix,
+        int seedTasks,
+        int users,
+        long seed,
+        int maxInFlight,
+        Path output
+) {
+    static final String DEFAULT_MIX = "list=35,get=30,create=10,update=10,start=6,complete=6,resume=3";
+
+    static LoadTestOptions parse(String[] args) {
+        URI baseUrl = URI.create("http://localhost:8080");
+        int rate = 100;
+        int warmupSeconds = 10;
+        int durationSeconds = 60;
+        String mix = DEFAULT_MIX;
+        int seedTasks = 10_000;
+        int users = 100;
+        long seed = 42;
+        int maxInFlight = 1_000;
+        Path output = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i];
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + name);
+            }
+            String value = args[++i];
+            switch (name) {
+                case "--base-url" -> baseUrl = URI.create(value);
+                case "--rate" -> rate = Integer.parseInt(value);
+                case "--warmup" -> warmupSeconds = Integer.parseInt(value);
+                case "--duration" -> durationSeconds = Integer.parseInt(value);
+                case "--mix" -> mix = value;
+                case "--seed-tasks" -> seedTasks = Integer.parseInt(value);
+                case "--users" -> users = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "--output" -> output = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + name);
+            }
+        }
+        if (output == null) {
+            output = Path.of("target", "loadtest",
+                    "loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+        }
+        return new LoadTestOptions(baseUrl, rate, warmupSeconds, durationSeconds, parseMix(mix), seedTasks, users,
+                seed, maxInFlight, output);
+    }
+
+    /**
+     * Parses {@code name=weight} pairs such as {@code list=50,get=50}; operations not listed get no traffic.
+     */
+    private static Map<TaskOperation, Integer> parseMix(String mix) {
+        Map<TaskOperation, Integer> weights = new EnumMap<>(TaskOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Mix entries must look like name=weight: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights must not be negative: " + entry);
+            }
+            weights.put(TaskOperation.of(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix has no traffic: " + mix);
+        }
+        return weights;
+    }
+
+    String describe() {
+        StringBuilder mixDescription = new StringBuilder();
+        mix.forEach((operation, weight) -> mixDescription.append(mixDescription.isEmpty() ? "" : ",")
+                .append(operation.getName()).append('=').append(weight));
+        return "base-url=" + baseUrl + " rate=" + rate + "/s warmup=" + warmupSeconds + "s duration="
+                + durationSeconds + "s mix=" + mixDescription + " seed-tasks=" + seedTasks + " users=" + users
+                + " seed=" + seed + " max-in-flight=" + maxInFlight;
+    }
+}
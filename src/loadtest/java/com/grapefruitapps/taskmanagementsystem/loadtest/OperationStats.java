@@ -0,0 +1,67 @@
+package com.grapefruitapps.taskmanagementsystem.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of one operation. Latency runs from the request's scheduled start, not from
+ * when it was actually sent, so a stalled server shows up in the percentiles instead of lowering the
+ * request rate (no coordinated omission).
+ */
+final class OperationStats {
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final Recorder latencies = new Recorder(MAX_LATENCY_NANOS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param status HTTP status, or {@code 0} when no response arrived
+     */
+    void record(long latencyNanos, int status) {
+        latencies.recordValue(Math.min(latencyNanos, MAX_LATENCY_NANOS));
+        if (status >= 200 && status < 400) {
+            ok.increment();
+        } else if (status >= 400 && status < 500) {
+            rejected.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Counts a request that was not sent because {@code --max-in-flight} requests were outstanding.
+     */
+    void drop() {
+        dropped.increment();
+    }
+
+    Summary summarize(double seconds) {
+        Histogram histogram = latencies.getIntervalHistogram();
+        long completed = ok.sum() + rejected.sum() + errors.sum();
+        long total = completed + dropped.sum();
+        return new Summary(total, completed / seconds, ok.sum(), rejected.sum(), errors.sum(), dropped.sum(),
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * @param rejected 4xx responses, i.e. requests the application refused (wrong status, in-progress limit)
+     * @param errors   5xx responses and requests that failed without a response
+     */
+    record Summary(long requests, double throughput, long ok, long rejected, long errors, long dropped,
+                   double p50, double p99, double p999, double max) {
+        double errorRate() {
+            return requests == 0 ? 0 : 100.0 * (errors + dropped) / requests;
+        }
+    }
+}
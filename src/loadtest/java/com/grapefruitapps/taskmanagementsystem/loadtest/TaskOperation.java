@@ -0,0 +1,116 @@
+package com.grapefruitapps.taskmanagementsystem.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Requests the load test sends to {@code TaskController}. Parameters are drawn from the caller's
+ * random generator, so a given seed always produces the same request sequence.
+ */
+enum TaskOperation {
+    LIST("list", "GET /tasks") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Long id, Random random, int users) {
+            StringBuilder query = new StringBuilder("?pageSize=20");
+            switch (random.nextInt(4)) {
+                case 0 -> query.append("&assignedUserId=").append(random.nextInt(users));
+                case 1 -> query.append("&creatorId=").append(random.nextInt(users));
+                case 2 -> query.append("&status=").append(STATUSES[random.nextInt(STATUSES.length)]);
+                default -> query.append("&priority=").append(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+            }
+            return HttpRequest.newBuilder(baseUrl.resolve("/tasks" + query)).GET();
+        }
+    },
+    GET("get", "GET /tasks/{id}") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Long id, Random random, int users) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/tasks/" + id)).GET();
+        }
+    },
+    CREATE("create", "POST /tasks") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Long id, Random random, int users) {
+            return json(HttpRequest.newBuilder(baseUrl.resolve("/tasks")), "POST", newTask(random, users));
+        }
+    },
+    UPDATE("update", "PUT /tasks/{id}") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Long id, Random random, int users) {
+            return json(HttpRequest.newBuilder(baseUrl.resolve("/tasks/" + id)), "PUT", newTask(random, users));
+        }
+    },
+    START("start", "PATCH /tasks/{id}/start") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Long id, Random random, int users) {
+            return patch(baseUrl, id, "start");
+        }
+    },
+    COMPLETE("complete", "PATCH /tasks/{id}/complete") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Long id, Random random, int users) {
+            return patch(baseUrl, id, "complete");
+        }
+    },
+    RESUME("resume", "PATCH /tasks/{id}/resume") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Long id, Random random, int users) {
+            return patch(baseUrl, id, "resume");
+        }
+    };
+
+    private static final String[] STATUSES = {"CREATED", "IN_PROGRESS", "DONE"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+    private final String name;
+    private final String endpoint;
+
+    TaskOperation(String name, String endpoint) {
+        this.name = name;
+        this.endpoint = endpoint;
+    }
+
+    static TaskOperation of(String name) {
+        for (TaskOperation operation : values()) {
+            if (operation.name.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation " + name);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    boolean needsTaskId() {
+        return this != LIST && this != CREATE;
+    }
+
+    /**
+     * @param id an existing task for operations that {@link #needsTaskId() need one}, otherwise {@code null}
+     */
+    abstract HttpRequest.Builder request(URI baseUrl, Long id, Random random, int users);
+
+    static String newTask(Random random, int users) {
+        return "{\"creatorId\":" + random.nextInt(users)
+                + ",\"assignedUserId\":" + random.nextInt(users)
+                + ",\"priority\":\"" + PRIORITIES[random.nextInt(PRIORITIES.length)] + "\""
+                + ",\"deadlineDate\":\"" + LocalDate.now().plusDays(1 + random.nextInt(60)) + "\"}";
+    }
+
+    private static HttpRequest.Builder json(HttpRequest.Builder builder, String method, String body) {
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static HttpRequest.Builder patch(URI baseUrl, Long id, String action) {
+        return HttpRequest.newBuilder(baseUrl.resolve("/tasks/" + id + "/" + action))
+                .method("PATCH", HttpRequest.BodyPublishers.noBody());
+    }
+}
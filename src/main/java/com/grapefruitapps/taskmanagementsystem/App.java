@@ -1,9 +1,14 @@
 package com.grapefruitapps.taskmanagementsystem;
 
+import com.grapefruitapps.taskmanagementsystem.task.TaskRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(TaskRuntimeHints.class)
 public class App {
 
     public static void main(String[] args) {
@@ -0,0 +1,86 @@
+package com.grapefruitapps.taskmanagementsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Active when {@code task.datasource.replica.urls} lists one or more replicas: read-only
+ * transactions (task search, export and stats) read from them, while writes and
+ * read-your-writes paths such as {@code GET /tasks/{id}} stay on the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "task.datasource.replica.urls")
+public class ReadReplicaConfig {
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaConfig.class);
+
+    private static final String DEFAULT_LAG_QUERY = "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0"
+            + " else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+
+    @Bean
+    public static BeanPostProcessor readReplicaDataSourcePostProcessor(Environment environment) {
+        return new RoutingPostProcessor(environment);
+    }
+
+    /**
+     * Runs before the other data source post-processors so that wrappers such as
+     * {@link ConcurrencyLimitedDataSource} end up around the routing data source.
+     */
+    private record RoutingPostProcessor(Environment environment) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || bean instanceof ReadReplicaRoutingDataSource
+                    || bean instanceof ConcurrencyLimitedDataSource) {
+                return bean;
+            }
+            List<HikariDataSource> replicas = new ArrayList<>();
+            String[] urls = environment.getRequiredProperty("task.datasource.replica.urls").split(",");
+            for (String url : Arrays.stream(urls).map(String::trim).filter(u -> !u.isEmpty()).toList()) {
+                replicas.add(replica(url, replicas.size() + 1));
+            }
+            if (replicas.isEmpty()) {
+                return bean;
+            }
+            Duration healthCheckInterval = environment.getProperty("task.datasource.replica.health-check-interval",
+                    Duration.class, Duration.ofSeconds(5));
+            Duration maxLag = environment.getProperty("task.datasource.replica.max-lag",
+                    Duration.class, Duration.ofSeconds(10));
+            String lagQuery = environment.getProperty("task.datasource.replica.lag-query", DEFAULT_LAG_QUERY);
+            log.info("Route read-only transactions on data source {} to {} replica(s)", beanName, replicas.size());
+            return new ReadReplicaRoutingDataSource(primary,
+                    new ReplicaDataSource(replicas, primary, healthCheckInterval, maxLag, lagQuery));
+        }
+
+        private HikariDataSource replica(String url, int index) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + index);
+            dataSource.setJdbcUrl(url);
+            dataSource.setUsername(environment.getProperty("task.datasource.replica.username",
+                    environment.getProperty("spring.datasource.username")));
+            dataSource.setPassword(environment.getProperty("task.datasource.replica.password",
+                    environment.getProperty("spring.datasource.password")));
+            dataSource.setMaximumPoolSize(environment.getProperty("task.datasource.replica.maximum-pool-size",
+                    Integer.class, environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10)));
+            dataSource.setReadOnly(true);
+            return dataSource;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.grapefruitapps.taskmanagementsystem.config;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Sends connections of {@code @Transactional(readOnly = true)} work to the replicas and
+ * everything else to the primary. The physical connection is only fetched once the
+ * transaction's read-only flag is known, which is what makes the routing decision possible.
+ */
+public class ReadReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+    private final ReplicaDataSource replicas;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, ReplicaDataSource replicas) {
+        super(primary);
+        this.replicas = replicas;
+        setReadOnlyDataSource(replicas);
+    }
+
+    @Override
+    public void close() throws Exception {
+        replicas.close();
+        if (obtainTargetDataSource() instanceof AutoCloseable primary) {
+            primary.close();
+        }
+    }
+}
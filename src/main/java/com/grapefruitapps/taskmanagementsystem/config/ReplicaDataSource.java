@@ -0,0 +1,129 @@
+package com.grapefruitapps.taskmanagementsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out connections from read replicas in round-robin order. A background check marks a
+ * replica usable only while it answers and lags the primary by at most {@code maxLag};
+ * when no replica is usable, connections come from {@code fallback} (the primary).
+ */
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    private final List<Replica> replicas;
+    private final DataSource fallback;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaDataSource(List<HikariDataSource> replicas, DataSource fallback,
+                             Duration healthCheckInterval, Duration maxLag, String lagQuery) {
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.fallback = fallback;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, 0,
+                healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return username == null
+                        ? replica.dataSource.getConnection()
+                        : replica.dataSource.getConnection(username, password);
+            } catch (SQLException e) {
+                replica.markUnhealthy(e.getMessage());
+            }
+        }
+        log.debug("No healthy replica, reading from primary");
+        return username == null ? fallback.getConnection() : fallback.getConnection(username, password);
+    }
+
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                Duration lag = lag(connection);
+                if (lag.compareTo(maxLag) > 0) {
+                    replica.markUnhealthy("lagging " + lag + " behind primary");
+                } else {
+                    replica.markHealthy();
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.markUnhealthy(e.getMessage());
+            }
+        }
+    }
+
+    private Duration lag(Connection connection) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return Duration.ZERO;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            double seconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+            return Duration.ofMillis((long) (seconds * 1000));
+        }
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private void markHealthy() {
+            if (!healthy) {
+                log.info("Replica {} is available for reads", dataSource.getPoolName());
+            }
+            healthy = true;
+        }
+
+        private void markUnhealthy(String reason) {
+            if (healthy) {
+                log.warn("Replica {} removed from reads: {}", dataSource.getPoolName(), reason);
+            }
+            healthy = false;
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.grapefruitapps.taskmanagementsystem.exception;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.time.LocalDateTime;
 
@@ -32,7 +35,8 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(exception = {
             IllegalArgumentException.class,
             IllegalStateException.class,
-            MethodArgumentNotValidException.class
+            MethodArgumentNotValidException.class,
+            HandlerMethodValidationException.class
     })
     public ResponseEntity<ErrorResponseDto> handleBadRequest(Exception e){
         log.error("Handle bad request", e);
@@ -60,4 +64,21 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.NOT_FOUND)
                 .body(errorDto);
     }
+
+    @ExceptionHandler(exception = {
+            OptimisticLockException.class,
+            OptimisticLockingFailureException.class
+    })
+    public ResponseEntity<ErrorResponseDto> handlePreconditionFailed(Exception e) {
+        log.error("Handle precondition failed", e);
+
+        ErrorResponseDto errorDto = new ErrorResponseDto(
+                "Precondition failed",
+                e.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(errorDto);
+    }
 }
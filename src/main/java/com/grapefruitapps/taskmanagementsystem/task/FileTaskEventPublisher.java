@@ -0,0 +1,58 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends events as NDJSON to {@code task.outbox.file.path}, forcing each batch to disk before
+ * reporting it published.
+ */
+@Component
+@ConditionalOnProperty(name = "task.outbox.publisher", havingValue = "file")
+public class FileTaskEventPublisher implements TaskEventPublisher {
+    private final JsonMapper jsonMapper;
+    private final FileChannel channel;
+    private final BufferedWriter writer;
+
+    public FileTaskEventPublisher(JsonMapper jsonMapper,
+                                  @Value("${task.outbox.file.path:task-events.ndjson}") Path path)
+            throws IOException {
+        this.jsonMapper = jsonMapper;
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public synchronized int publish(List<TaskEventMessage> events) {
+        try {
+            for (TaskEventMessage event : events) {
+                writer.write(jsonMapper.writeValueAsString(event));
+                writer.write('\n');
+            }
+            writer.flush();
+            channel.force(false);
+            return events.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write task events", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,27 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidations within this instance only. Register a {@code @Primary} channel
+ * backed by a shared broker to propagate them across instances.
+ */
+@Component
+public class InMemoryTaskCacheInvalidationChannel implements TaskCacheInvalidationChannel {
+    private final List<Consumer<Collection<Long>>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Collection<Long> taskIds) {
+        listeners.forEach(listener -> listener.accept(taskIds));
+    }
+
+    @Override
+    public void subscribe(Consumer<Collection<Long>> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,41 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Bounded in-process buffer for local testing. Once {@code task.outbox.memory.capacity} events
+ * are waiting it accepts no more until {@link #drain} makes room, which exercises the relay's
+ * backpressure.
+ */
+@Component
+@ConditionalOnProperty(name = "task.outbox.publisher", havingValue = "memory")
+public class InMemoryTaskEventPublisher implements TaskEventPublisher {
+    private final int capacity;
+    private final Deque<TaskEventMessage> events = new ArrayDeque<>();
+
+    public InMemoryTaskEventPublisher(@Value("${task.outbox.memory.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized int publish(List<TaskEventMessage> batch) {
+        int accepted = Math.min(batch.size(), capacity - events.size());
+        events.addAll(batch.subList(0, accepted));
+        return accepted;
+    }
+
+    public synchronized List<TaskEventMessage> drain(int maxEvents) {
+        List<TaskEventMessage> drained = new ArrayList<>(Math.min(maxEvents, events.size()));
+        while (drained.size() < maxEvents && !events.isEmpty()) {
+            drained.add(events.poll());
+        }
+        return drained;
+    }
+}
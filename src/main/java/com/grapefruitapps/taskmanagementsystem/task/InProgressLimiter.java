@@ -0,0 +1,51 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Admission control for {@link TaskStatus#IN_PROGRESS} tasks backed by a counter row.
+ * <p>
+ * Lifecycle transitions acquire and release slots inside their own conditional update
+ * (see {@link TaskTransitionRepository}); the counter update locks the row until commit,
+ * so concurrent starters across all application instances cannot overshoot the cap.
+ */
+@Component
+public class InProgressLimiter {
+    static final String IN_PROGRESS_COUNTER = "tasks_in_progress";
+
+    private static final Logger log = LoggerFactory.getLogger(InProgressLimiter.class);
+    private final TaskCounterRepository counterRepository;
+    private final TaskRepository taskRepository;
+
+    public InProgressLimiter(TaskCounterRepository counterRepository, TaskRepository taskRepository) {
+        this.counterRepository = counterRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release() {
+        counterRepository.decrement(IN_PROGRESS_COUNTER);
+    }
+
+    /**
+     * The counter row is created idempotently before it is locked, so instances starting
+     * together on a fresh database do not race on its insert.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcile() {
+        counterRepository.register(IN_PROGRESS_COUNTER);
+        TaskCounterEntity counter = counterRepository.findForUpdate(IN_PROGRESS_COUNTER).orElseThrow();
+        long actual = taskRepository.countByStatus(TaskStatus.IN_PROGRESS);
+        if (counter.getValue() != actual) {
+            log.info("Reconcile in-progress counter: {} -> {}", counter.getValue(), actual);
+        }
+        counter.setValue(actual);
+    }
+}
@@ -0,0 +1,22 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "task.outbox.publisher", havingValue = "logging", matchIfMissing = true)
+public class LoggingTaskEventPublisher implements TaskEventPublisher {
+    private static final Logger log = LoggerFactory.getLogger(LoggingTaskEventPublisher.class);
+
+    @Override
+    public int publish(List<TaskEventMessage> events) {
+        for (TaskEventMessage event : events) {
+            log.debug("Task event {}: {} task {}", event.id(), event.type(), event.taskId());
+        }
+        return events.size();
+    }
+}
@@ -0,0 +1,11 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+/**
+ * Entity tag of a page of tasks with the page itself, read in one transaction so the tag describes
+ * exactly these tasks. {@code slice} is {@code null} when the client already has the page.
+ */
+public record TaggedTaskSlice(
+        TaskPageTag tag,
+        TaskSlice slice
+) {
+}
@@ -0,0 +1,99 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of the partitioned {@code tasks_archive} table (see {@code schema.sql}).
+ * Mapped through a subselect so schema generation leaves the table alone; rows are moved in
+ * and out by {@link TaskArchiveRepository}.
+ */
+@Entity
+@Immutable
+@Subselect("select * from tasks_archive")
+@Synchronize("tasks_archive")
+public class TaskArchiveEntity {
+    @Id
+    private Long id;
+
+    @Column(name = "creator_id")
+    private Long creatorId;
+
+    @Column(name = "assigned_user_id")
+    private Long assignedUserId;
+
+    @Column(name = "status")
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Column(name = "create_date_time")
+    private LocalDateTime createDateTime;
+
+    @Column(name = "deadline_date")
+    private LocalDate deadlineDate;
+
+    @Column(name = "done_date_time")
+    private LocalDateTime doneDateTime;
+
+    @Column(name = "priority")
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+
+    @Column(name = "last_modified_date_time")
+    private LocalDateTime lastModifiedDateTime;
+
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "archived_date_time")
+    private LocalDateTime archivedDateTime;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getCreatorId() {
+        return creatorId;
+    }
+
+    public Long getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreateDateTime() {
+        return createDateTime;
+    }
+
+    public LocalDate getDeadlineDate() {
+        return deadlineDate;
+    }
+
+    public LocalDateTime getDoneDateTime() {
+        return doneDateTime;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public LocalDateTime getLastModifiedDateTime() {
+        return lastModifiedDateTime;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getArchivedDateTime() {
+        return archivedDateTime;
+    }
+}
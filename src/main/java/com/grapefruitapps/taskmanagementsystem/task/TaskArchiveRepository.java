@@ -0,0 +1,26 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Moves DONE tasks into the partitioned {@code tasks_archive} table; resuming moves them back
+ * (see {@link TaskTransitionRepository}).
+ */
+public interface TaskArchiveRepository {
+    /**
+     * Moves up to {@code limit} DONE tasks finished before {@code doneBefore} into the archive,
+     * creating the monthly partitions they need. Tasks locked by other transactions are skipped.
+     *
+     * @return ids of the archived tasks
+     */
+    List<Long> archiveDone(LocalDateTime doneBefore, int limit, LocalDateTime now);
+
+    /**
+     * Deletes a task from the archive.
+     *
+     * @return the deleted task, or empty if it is not archived
+     */
+    Optional<TaskDto> deleteArchived(Long id);
+}
@@ -0,0 +1,87 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+class TaskArchiveRepositoryImpl implements TaskArchiveRepository {
+    private static final String LOCK_ARCHIVABLE = """
+            select id, done_date_time from tasks
+            where status = 'DONE' and done_date_time < :doneBefore
+            order by done_date_time, id
+            limit :limit
+            for update skip locked
+            """;
+
+    private static final String MOVE_TO_ARCHIVE = """
+            with moved as (
+                delete from tasks where id in (:ids) and status = 'DONE'
+                returning %1$s
+            )
+            insert into tasks_archive (%1$s, archived_date_time)
+            select %1$s, :now from moved
+            returning id
+            """.formatted(TaskRows.COLUMNS);
+
+    private static final String DELETE_ARCHIVED = """
+            delete from tasks_archive where id = :id
+            returning %s
+            """.formatted(TaskRows.COLUMNS);
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> archiveDone(LocalDateTime doneBefore, int limit, LocalDateTime now) {
+        List<Object[]> locked = entityManager.createNativeQuery(LOCK_ARCHIVABLE)
+                .unwrap(NativeQuery.class)
+                .setParameter("doneBefore", doneBefore)
+                .setParameter("limit", limit)
+                .addScalar("id", Long.class)
+                .addScalar("done_date_time", LocalDateTime.class)
+                .getResultList();
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+
+        SortedSet<LocalDate> months = new TreeSet<>();
+        for (Object[] row : locked) {
+            months.add(((LocalDateTime) row[1]).toLocalDate().withDayOfMonth(1));
+        }
+        months.forEach(this::createPartition);
+
+        return entityManager.createNativeQuery(MOVE_TO_ARCHIVE, Long.class)
+                .setParameter("ids", locked.stream().map(row -> (Long) row[0]).toList())
+                .setParameter("now", now)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<TaskDto> deleteArchived(Long id) {
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(DELETE_ARCHIVED).unwrap(NativeQuery.class);
+        query.setParameter("id", id);
+        return TaskRows.addScalars(query).getResultList().stream()
+                .map(TaskRows::toDto)
+                .findFirst();
+    }
+
+    private void createPartition(LocalDate month) {
+        entityManager.createNativeQuery("""
+                create table if not exists tasks_archive_p%s partition of tasks_archive
+                for values from ('%s') to ('%s')
+                """.formatted(month.format(PARTITION_SUFFIX), month, month.plusMonths(1)))
+                .executeUpdate();
+    }
+}
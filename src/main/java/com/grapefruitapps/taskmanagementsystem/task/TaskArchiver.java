@@ -0,0 +1,63 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Periodically moves DONE tasks older than {@code task.archive.age} from {@code tasks} into the
+ * partitioned {@code tasks_archive} table, one batch per transaction, so searches and counts over
+ * active tasks stay proportional to active work. Statistics counters keep counting archived tasks.
+ */
+@Component
+@ConditionalOnProperty(name = "task.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskArchiver {
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+    private final TaskRepository repository;
+    private final TaskCache taskCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration age;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public TaskArchiver(TaskRepository repository, TaskCache taskCache, PlatformTransactionManager transactionManager,
+                        @Value("${task.archive.age:P90D}") Duration age,
+                        @Value("${task.archive.batch-size:1000}") int batchSize,
+                        @Value("${task.archive.max-batches-per-run:100}") int maxBatchesPerRun) {
+        this.repository = repository;
+        this.taskCache = taskCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.age = age;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(
+            initialDelayString = "${task.archive.interval:PT1H}",
+            fixedDelayString = "${task.archive.interval:PT1H}")
+    public void archive() {
+        LocalDateTime doneBefore = LocalDateTime.now().minus(age);
+        int archived = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> archivedIds = repository.archiveDone(doneBefore, batchSize, LocalDateTime.now());
+                taskCache.evict(archivedIds);
+                return archivedIds;
+            });
+            archived += ids.size();
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        log.info("Archived {} tasks done before {}", archived, doneBefore);
+    }
+}
@@ -0,0 +1,16 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.util.List;
+
+/**
+ * Bulk inserts that keep the persistence context small so Hibernate can send JDBC batches.
+ */
+public interface TaskBatchRepository {
+    /**
+     * Persists the entities, flushing and clearing the persistence context after every
+     * {@code hibernate.jdbc.batch_size} rows.
+     *
+     * @return ids of the inserted tasks in input order
+     */
+    List<Long> insertAll(List<TaskEntity> entities);
+}
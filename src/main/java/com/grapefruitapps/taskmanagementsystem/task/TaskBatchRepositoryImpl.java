@@ -0,0 +1,36 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class TaskBatchRepositoryImpl implements TaskBatchRepository {
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    TaskBatchRepositoryImpl(@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public List<Long> insertAll(List<TaskEntity> entities) {
+        List<Long> ids = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            TaskEntity entity = entities.get(i);
+            entityManager.persist(entity);
+            ids.add(entity.getId());
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+}
@@ -0,0 +1,19 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based updates of all tasks matching a filter, one id-ordered chunk at a time.
+ */
+public interface TaskBulkUpdateRepository {
+    /**
+     * Locks the next {@code limit} tasks matching the filter with an id greater than {@code afterId}
+     * and applies the patch to those for which the {@link TaskService#updateTask} rules hold and
+     * that would actually change, incrementing their version.
+     *
+     * @return one result per task of the chunk in id order; {@code updated} is {@code null} for skipped tasks
+     */
+    List<TaskUpdateResult> updateChunk(TaskFilter filter, TaskPatch patch, long afterId, int limit,
+                                       LocalDateTime now);
+}
@@ -0,0 +1,114 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class TaskBulkUpdateRepositoryImpl implements TaskBulkUpdateRepository {
+    /*
+     * Like TaskSpecifications, only the non-null filter fields become predicates. The chunk is
+     * locked in id order, the same order transitions lock tasks in. The rules are those of
+     * TaskUpdateRepositoryImpl; rows the patch would not change are left alone.
+     */
+    private static final String UPDATE_CHUNK = """
+            with chunk as (
+                select %1$s from tasks
+                where id > :afterId%2$s
+                order by id
+                limit :limit
+                for update
+            ),
+            updated as (
+                update tasks t set
+                    assigned_user_id = coalesce(:assignedUserId, t.assigned_user_id),
+                    priority = coalesce(:priority, t.priority),
+                    deadline_date = coalesce(:deadlineDate, t.deadline_date),
+                    overdue_date_time = case when t.deadline_date is distinct from coalesce(:deadlineDate, t.deadline_date)
+                        then null else t.overdue_date_time end,
+                    last_modified_date_time = :now,
+                    version = t.version + 1
+                from chunk c
+                where t.id = c.id
+                    and c.status <> 'DONE'
+                    and (c.status <> 'IN_PROGRESS' or coalesce(:assignedUserId, c.assigned_user_id) is not null)
+                    and (cast(:deadlineDate as date) is null or :deadlineDate >= cast(c.create_date_time as date))
+                    and (c.assigned_user_id, c.priority, c.deadline_date) is distinct from
+                        (coalesce(:assignedUserId, c.assigned_user_id), coalesce(:priority, c.priority),
+                         coalesce(:deadlineDate, c.deadline_date))
+                returning %3$s
+            )
+            select %1$s, false as updated from chunk
+            union all
+            select %1$s, true as updated from updated
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskUpdateResult> updateChunk(TaskFilter filter, TaskPatch patch, long afterId, int limit,
+                                              LocalDateTime now) {
+        StringBuilder predicates = new StringBuilder();
+        if (filter.creatorId() != null) {
+            predicates.append(" and creator_id = :filterCreatorId");
+        }
+        if (filter.assignedUserId() != null) {
+            predicates.append(" and assigned_user_id = :filterAssignedUserId");
+        }
+        if (filter.status() != null) {
+            predicates.append(" and status = :filterStatus");
+        }
+        if (filter.priority() != null) {
+            predicates.append(" and priority = :filterPriority");
+        }
+        String sql = UPDATE_CHUNK.formatted(TaskRows.COLUMNS, predicates, prefixed("t.", TaskRows.COLUMNS));
+
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        query.setParameter("afterId", afterId)
+                .setParameter("limit", limit)
+                .setParameter("now", now)
+                .setParameter("assignedUserId", patch.assignedUserId(), Long.class)
+                .setParameter("priority", patch.priority() == null ? null : patch.priority().name(), String.class)
+                .setParameter("deadlineDate", patch.deadlineDate(), LocalDate.class);
+        if (filter.creatorId() != null) {
+            query.setParameter("filterCreatorId", filter.creatorId());
+        }
+        if (filter.assignedUserId() != null) {
+            query.setParameter("filterAssignedUserId", filter.assignedUserId());
+        }
+        if (filter.status() != null) {
+            query.setParameter("filterStatus", filter.status().name());
+        }
+        if (filter.priority() != null) {
+            query.setParameter("filterPriority", filter.priority().name());
+        }
+        TaskRows.addScalars(query).addScalar("updated", Boolean.class);
+
+        List<TaskDto> chunk = new ArrayList<>();
+        Map<Long, TaskDto> updated = new HashMap<>();
+        for (Object[] row : query.getResultList()) {
+            TaskDto task = TaskRows.toDto(row);
+            if ((Boolean) row[TaskRows.COLUMN_COUNT]) {
+                updated.put(task.getId(), task);
+            } else {
+                chunk.add(task);
+            }
+        }
+        chunk.sort((left, right) -> Long.compare(left.getId(), right.getId()));
+        return chunk.stream()
+                .map(task -> new TaskUpdateResult(task, updated.get(task.getId())))
+                .toList();
+    }
+
+    private static String prefixed(String alias, String columns) {
+        return alias + String.join(", " + alias, columns.split(", "));
+    }
+}
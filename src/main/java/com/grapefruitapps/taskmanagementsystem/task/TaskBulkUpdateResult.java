@@ -0,0 +1,19 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+/**
+ * Counts of a bulk update by filter.
+ *
+ * @param matched         tasks that matched the filter
+ * @param updated         tasks changed by the patch
+ * @param unchanged       tasks that already had the patched values
+ * @param skippedDone     DONE tasks, which cannot be modified
+ * @param skippedDeadline tasks created after the patched deadline date
+ */
+public record TaskBulkUpdateResult(
+        long matched,
+        long updated,
+        long unchanged,
+        long skippedDone,
+        long skippedDeadline
+) {
+}
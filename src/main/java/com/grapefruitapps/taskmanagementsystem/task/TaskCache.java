@@ -0,0 +1,104 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-evicting cache of tasks by id.
+ * <p>
+ * Writers invalidate after their transaction commits, so a concurrent read cannot put
+ * the pre-commit state back. The local entries are dropped by this cache's own subscription
+ * to the {@link TaskCacheInvalidationChannel}, like those of every other instance.
+ * Hit, miss and eviction counts are published as {@code cache.*} metrics.
+ * <p>
+ * Entries are futures so that a miss is loaded outside the cache's per-key lock: the loader
+ * needs a pooled connection, and an invalidation running in a writer's {@code afterCommit}
+ * (which still holds its connection) must never wait behind it. Invalidating an entry whose
+ * load is in flight drops that future, so the load cannot re-insert the stale row either.
+ */
+@Component
+public class TaskCache {
+    private static final Logger log = LoggerFactory.getLogger(TaskCache.class);
+    private final AsyncCache<Long, TaskDto> cache;
+    private final TaskCacheInvalidationChannel invalidationChannel;
+
+    public TaskCache(
+            @Value("${task.cache.maximum-size:10000}") long maximumSize,
+            @Value("${task.cache.ttl:5s}") Duration ttl,
+            TaskCacheInvalidationChannel invalidationChannel,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.invalidationChannel = invalidationChannel;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tasks");
+        invalidationChannel.subscribe(cache.synchronous()::invalidateAll);
+    }
+
+    public TaskDto get(Long id, Function<Long, TaskDto> loader) {
+        CompletableFuture<TaskDto> loading = new CompletableFuture<>();
+        CompletableFuture<TaskDto> cached = cache.get(id, (key, executor) -> loading);
+        if (cached != loading) {
+            return join(cached);
+        }
+        try {
+            TaskDto task = loader.apply(id);
+            loading.complete(task);
+            return task;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static TaskDto join(CompletableFuture<TaskDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void evict(Long id) {
+        evict(List.of(id));
+    }
+
+    public void evict(Collection<Long> ids) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(ids);
+                }
+            });
+        } else {
+            publish(ids);
+        }
+    }
+
+    private void publish(Collection<Long> ids) {
+        log.debug("Evict {} tasks from cache", ids.size());
+        invalidationChannel.publish(ids);
+    }
+}
@@ -0,0 +1,18 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts ids of changed tasks to every application instance holding a {@link TaskCache}.
+ * The in-memory implementation only reaches the local instance; other instances rely on the cache TTL
+ * unless a distributed implementation is registered instead.
+ * <p>
+ * {@link #publish} must notify the listeners of the publishing instance before it returns, so that
+ * a writer's next read of the same task misses the cache.
+ */
+public interface TaskCacheInvalidationChannel {
+    void publish(Collection<Long> taskIds);
+
+    void subscribe(Consumer<Collection<Long>> listener);
+}
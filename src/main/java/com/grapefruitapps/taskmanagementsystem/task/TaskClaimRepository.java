@@ -0,0 +1,20 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Work-queue dequeue of CREATED tasks.
+ */
+public interface TaskClaimRepository {
+    /**
+     * Starts up to {@code limit} CREATED tasks of the given priority, oldest first, taking no more
+     * tasks than there are free in-progress slots. Tasks locked by other claimers are skipped
+     * instead of waited for. With an {@code assignedUserId}, tasks assigned to that user and
+     * unassigned tasks qualify and the latter are assigned to the user; without one, only tasks
+     * that already have an executor qualify.
+     *
+     * @return the claimed tasks as they were before and after the claim, oldest first
+     */
+    List<TaskUpdateResult> claim(TaskPriority priority, Long assignedUserId, int limit, LocalDateTime now);
+}
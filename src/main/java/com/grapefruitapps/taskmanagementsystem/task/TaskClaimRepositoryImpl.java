@@ -0,0 +1,93 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class TaskClaimRepositoryImpl implements TaskClaimRepository {
+    /*
+     * The counter row is locked first so the number of free slots is known before candidates
+     * are picked; candidates are then locked with SKIP LOCKED, so concurrent claimers never
+     * wait on each other's tasks and transitions that hold task locks never wait on a claimer.
+     * The candidate rows are returned alongside the claimed ones to report the previous executor.
+     */
+    private static final String CLAIM = """
+            with slot as (
+                select greatest(:max - current_value, 0) as free from task_counters
+                where name = :counter
+                for update
+            ),
+            candidates as (
+                select %1$s from tasks
+                where status = 'CREATED' and priority = :priority and %2$s
+                order by create_date_time, id
+                limit least(:limit, (select coalesce((select free from slot), 0)))
+                for update skip locked
+            ),
+            claimed as (
+                update tasks set status = 'IN_PROGRESS',%3$s last_modified_date_time = :now, version = version + 1
+                where id in (select id from candidates)
+                returning %1$s
+            ),
+            counted as (
+                update task_counters
+                set current_value = current_value + (select count(*) from claimed)
+                where name = :counter and exists (select 1 from claimed)
+            )
+            select %1$s, false as claimed from candidates
+            union all
+            select %1$s, true as claimed from claimed
+            """;
+
+    private static final String CLAIM_ASSIGNED = CLAIM.formatted(
+            TaskRows.COLUMNS, "assigned_user_id is not null", "");
+    private static final String CLAIM_FOR_USER = CLAIM.formatted(
+            TaskRows.COLUMNS, "(assigned_user_id = :assignedUserId or assigned_user_id is null)",
+            " assigned_user_id = :assignedUserId,");
+
+    private static final Comparator<TaskUpdateResult> AGE_ORDER = Comparator
+            .comparing((TaskUpdateResult result) -> result.before().getCreateDateTime())
+            .thenComparing(result -> result.before().getId());
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskUpdateResult> claim(TaskPriority priority, Long assignedUserId, int limit, LocalDateTime now) {
+        NativeQuery<Object[]> query = entityManager
+                .createNativeQuery(assignedUserId == null ? CLAIM_ASSIGNED : CLAIM_FOR_USER)
+                .unwrap(NativeQuery.class);
+        query.setParameter("max", TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS)
+                .setParameter("counter", InProgressLimiter.IN_PROGRESS_COUNTER)
+                .setParameter("priority", priority.name())
+                .setParameter("limit", limit)
+                .setParameter("now", now);
+        if (assignedUserId != null) {
+            query.setParameter("assignedUserId", assignedUserId);
+        }
+        TaskRows.addScalars(query).addScalar("claimed", Boolean.class);
+
+        Map<Long, TaskDto> before = new HashMap<>();
+        List<TaskDto> claimed = new ArrayList<>();
+        for (Object[] row : query.getResultList()) {
+            TaskDto task = TaskRows.toDto(row);
+            if ((Boolean) row[TaskRows.COLUMN_COUNT]) {
+                claimed.add(task);
+            } else {
+                before.put(task.getId(), task);
+            }
+        }
+        return claimed.stream()
+                .map(task -> new TaskUpdateResult(before.get(task.getId()), task))
+                .sorted(AGE_ORDER)
+                .toList();
+    }
+}
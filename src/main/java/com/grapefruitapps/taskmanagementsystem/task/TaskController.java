@@ -2,22 +2,41 @@ package com.grapefruitapps.taskmanagementsystem.task;
 
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
 @RequestMapping("/tasks")
 public class TaskController {
+    public static final String CONTINUATION_TOKEN_HEADER = "X-Continuation-Token";
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
     private static final Logger log = LoggerFactory.getLogger(TaskController.class);
     private final TaskService taskService;
+    private final TaskStatsService taskStatsService;
+    private final TaskEventFeed taskEventFeed;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskStatsService taskStatsService,
+                          TaskEventFeed taskEventFeed) {
         this.taskService = taskService;
+        this.taskStatsService = taskStatsService;
+        this.taskEventFeed = taskEventFeed;
     }
 
 
@@ -28,7 +47,47 @@ public class TaskController {
             @RequestParam(name = "status", required = false) TaskStatus status,
             @RequestParam(name = "priority", required = false) TaskPriority priority,
             @RequestParam(name = "pageSize", required = false) Integer pageSize,
-            @RequestParam(name = "pageNumber", required = false) Integer pageNumber
+            @RequestParam(name = "pageNumber", required = false) Integer pageNumber,
+            @RequestParam(name = "afterId", required = false) Long afterId,
+            @RequestParam(name = "continuationToken", required = false) String continuationToken,
+            @RequestParam(name = "archived", defaultValue = "false") boolean archived,
+            WebRequest request
+    ) {
+        TaskFilter filter = new TaskFilter(
+                creatorId,
+                assignedUserId,
+                status,
+                priority,
+                pageSize,
+                pageNumber,
+                TaskCursor.resolveAfterId(afterId, continuationToken, pageNumber)
+        );
+        log.info("Called getAllTasks: archived={}", archived);
+        TaggedTaskSlice page = taskService.searchAllByFilterIfChanged(filter, archived,
+                tag -> request.checkNotModified(tag.value()));
+        if (page.slice() == null) {
+            return null;
+        }
+        TaskSlice slice = page.slice();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(page.tag().value());
+        if (slice.continuationToken() != null) {
+            response.header(CONTINUATION_TOKEN_HEADER, slice.continuationToken());
+        }
+        return response.body(slice.tasks());
+    }
+
+    @GetMapping("/overdue")
+    public ResponseEntity<List<TaskDto>> getOverdueTasks(
+            @RequestParam(name = "creatorId", required = false) Long creatorId,
+            @RequestParam(name = "assignedUserId", required = false) Long assignedUserId,
+            @RequestParam(name = "status", required = false) TaskStatus status,
+            @RequestParam(name = "priority", required = false) TaskPriority priority,
+            @RequestParam(name = "pageSize", required = false) Integer pageSize,
+            @RequestParam(name = "pageNumber", required = false) Integer pageNumber,
+            @RequestParam(name = "afterId", required = false) Long afterId,
+            @RequestParam(name = "continuationToken", required = false) String continuationToken
     ) {
         TaskFilter filter = new TaskFilter(
                 creatorId,
@@ -36,10 +95,71 @@ public class TaskController {
                 status,
                 priority,
                 pageSize,
-                pageNumber
+                pageNumber,
+                TaskCursor.resolveAfterId(afterId, continuationToken, pageNumber)
+        );
+        log.info("Called getOverdueTasks");
+        TaskSlice slice = taskService.searchOverdue(filter);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (slice.continuationToken() != null) {
+            response.header(CONTINUATION_TOKEN_HEADER, slice.continuationToken());
+        }
+        return response.body(slice.tasks());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(name = "creatorId", required = false) Long creatorId,
+            @RequestParam(name = "assignedUserId", required = false) Long assignedUserId,
+            @RequestParam(name = "status", required = false) TaskStatus status,
+            @RequestParam(name = "priority", required = false) TaskPriority priority,
+            @RequestParam(name = "format", defaultValue = "NDJSON") TaskExportFormat format
+    ) {
+        TaskFilter filter = new TaskFilter(
+                creatorId,
+                assignedUserId,
+                status,
+                priority,
+                null,
+                null,
+                null
+        );
+        log.info("Called exportTasks: format={}", format);
+        StreamingResponseBody body = outputStream -> taskService.exportAllByFilter(filter, format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents(
+            @RequestParam(name = "creatorId", required = false) Long creatorId,
+            @RequestParam(name = "assignedUserId", required = false) Long assignedUserId,
+            @RequestParam(name = "status", required = false) TaskStatus status,
+            @RequestParam(name = "priority", required = false) TaskPriority priority,
+            @RequestHeader(name = LAST_EVENT_ID_HEADER, required = false) String lastEventId
+    ) {
+        TaskFilter filter = new TaskFilter(
+                creatorId,
+                assignedUserId,
+                status,
+                priority,
+                null,
+                null,
+                null
         );
-        log.info("Called getAllTasks");
-        return ResponseEntity.ok(taskService.searchAllByFilter(filter));
+        log.info("Called streamTaskEvents: lastEventId={}", lastEventId);
+        return taskEventFeed.subscribe(filter, lastEventId);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDto> getTaskStats(
+            @RequestParam(name = "assignedUserId", required = false) Long assignedUserId,
+            @RequestParam(name = "creatorId", required = false) Long creatorId
+    ) {
+        log.info("Called getTaskStats");
+        return ResponseEntity.ok(taskStatsService.getStats(assignedUserId, creatorId));
     }
 
     @GetMapping("/{id}")
@@ -47,7 +167,11 @@ public class TaskController {
             @PathVariable Long id
     ) {
         log.info("Called getTaskById: id={}", id);
-        return ResponseEntity.ok(taskService.getTaskById(id));
+        TaskDto task = taskService.getTaskById(id);
+        return ResponseEntity.ok()
+                .eTag(TaskETag.of(task).value())
+                .lastModified(task.getLastModifiedDateTime().atZone(ZoneId.systemDefault()))
+                .body(task);
     }
 
     @PostMapping
@@ -57,17 +181,31 @@ public class TaskController {
         log.info("Called createTask");
         TaskDto createdTask = taskService.createTask(taskDto);
         return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(TaskETag.of(createdTask).value())
                 .body(createdTask);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<Long>> createTasks(
+            @RequestBody @NotEmpty @Size(max = TaskService.MAX_BATCH_SIZE) List<@Valid TaskDto> taskDtos
+    ) {
+        log.info("Called createTasks: count={}", taskDtos.size());
+        List<Long> createdIds = taskService.createTasks(taskDtos);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(createdIds);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TaskDto> updateTask(
             @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid TaskDto taskDto
     ) {
-        log.info("Called updateTask: id={}, task={}", id, taskDto);
-        TaskDto updatedTask = taskService.updateTask(id, taskDto);
-        return ResponseEntity.ok(updatedTask);
+        log.info("Called updateTask: id={}, ifMatch={}, task={}", id, ifMatch, taskDto);
+        TaskDto updatedTask = taskService.updateTask(id, TaskETag.parseIfMatch(ifMatch), taskDto);
+        return ResponseEntity.ok()
+                .eTag(TaskETag.of(updatedTask).value())
+                .body(updatedTask);
     }
 
 
@@ -80,6 +218,61 @@ public class TaskController {
         return ResponseEntity.ok().build();
     }
 
+    @PatchMapping
+    public ResponseEntity<TaskBulkUpdateResult> bulkUpdateTasks(
+            @RequestParam(name = "creatorId", required = false) Long creatorId,
+            @RequestParam(name = "assignedUserId", required = false) Long assignedUserId,
+            @RequestParam(name = "status", required = false) TaskStatus status,
+            @RequestParam(name = "priority", required = false) TaskPriority priority,
+            @RequestBody TaskPatch patch
+    ) {
+        TaskFilter filter = new TaskFilter(
+                creatorId,
+                assignedUserId,
+                status,
+                priority,
+                null,
+                null,
+                null
+        );
+        log.info("Called bulkUpdateTasks");
+        return ResponseEntity.ok(taskService.bulkUpdateTasks(filter, patch));
+    }
+
+    @PostMapping("/claim")
+    public ResponseEntity<List<TaskDto>> claimTasks(
+            @RequestParam(name = "assignedUserId", required = false) Long assignedUserId,
+            @RequestParam(name = "count", defaultValue = "1")
+            @Min(1) @Max(TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS) int count
+    ) {
+        log.info("Called claimTasks: assignedUserId={}, count={}", assignedUserId, count);
+        return ResponseEntity.ok(taskService.claimTasks(assignedUserId, count));
+    }
+
+    @PatchMapping("/start")
+    public ResponseEntity<List<TaskTransitionOutcome>> startTasks(
+            @RequestBody @NotEmpty @Size(max = TaskService.MAX_BATCH_SIZE) List<@NotNull Long> ids
+    ) {
+        log.info("Called startTasks: count={}", ids.size());
+        return ResponseEntity.ok(taskService.startTasks(ids));
+    }
+
+    @PatchMapping("/complete")
+    public ResponseEntity<List<TaskTransitionOutcome>> completeTasks(
+            @RequestBody @NotEmpty @Size(max = TaskService.MAX_BATCH_SIZE) List<@NotNull Long> ids
+    ) {
+        log.info("Called completeTasks: count={}", ids.size());
+        return ResponseEntity.ok(taskService.completeTasks(ids));
+    }
+
+    @PatchMapping("/resume")
+    public ResponseEntity<List<TaskTransitionOutcome>> resumeTasks(
+            @RequestBody @NotEmpty @Size(max = TaskService.MAX_BATCH_SIZE) List<@NotNull Long> ids
+    ) {
+        log.info("Called resumeTasks: count={}", ids.size());
+        return ResponseEntity.ok(taskService.resumeTasks(ids));
+    }
+
     @PatchMapping("/{id}/start")
     public ResponseEntity<TaskDto> startTask(
             @PathVariable Long id
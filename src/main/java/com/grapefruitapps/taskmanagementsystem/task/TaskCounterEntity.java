@@ -0,0 +1,41 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "task_counters")
+public class TaskCounterEntity {
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "current_value", nullable = false)
+    private long value;
+
+    public TaskCounterEntity() {
+    }
+
+    public TaskCounterEntity(String name, long value) {
+        this.name = name;
+        this.value = value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public void setValue(long value) {
+        this.value = value;
+    }
+}
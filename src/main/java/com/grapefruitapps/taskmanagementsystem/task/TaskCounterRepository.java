@@ -0,0 +1,43 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TaskCounterRepository extends JpaRepository<TaskCounterEntity, String>,
+        TaskCounterUpdateRepository {
+    @Modifying
+    @Query("""
+            update TaskCounterEntity c
+            set c.value = c.value - 1
+            where c.name = :name and c.value > 0
+            """)
+    int decrement(@Param("name") String name);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into task_counters (name, current_value)
+            values (:name, 0)
+            on conflict do nothing
+            """)
+    void register(@Param("name") String name);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from TaskCounterEntity c where c.name = :name")
+    Optional<TaskCounterEntity> findForUpdate(@Param("name") String name);
+
+    @Query("""
+            select coalesce(sum(c.value), 0) from TaskCounterEntity c
+            where c.name >= :fromName and c.name < :toName
+            """)
+    long sumByNameRange(
+            @Param("fromName") String fromName,
+            @Param("toName") String toName);
+}
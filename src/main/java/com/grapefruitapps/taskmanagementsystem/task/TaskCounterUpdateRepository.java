@@ -0,0 +1,18 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.util.SortedMap;
+
+public interface TaskCounterUpdateRepository {
+    /**
+     * Adds the deltas to the named counters in one statement, creating missing counters.
+     * Rows are locked in key order, so concurrent callers cannot deadlock each other.
+     */
+    void addAll(SortedMap<String, Long> deltas);
+
+    /**
+     * Differences between the statistics counters and the values computed from {@code tasks} and
+     * {@code tasks_archive}, by counter name, omitting counters that are right. Both sides are read in
+     * one statement snapshot, so a delta stays correct when applied after concurrent mutations.
+     */
+    SortedMap<String, Long> findStatsCorrections();
+}
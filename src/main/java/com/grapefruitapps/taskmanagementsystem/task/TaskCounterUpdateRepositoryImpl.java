@@ -0,0 +1,75 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+class TaskCounterUpdateRepositoryImpl implements TaskCounterUpdateRepository {
+    private static final String STATS_CORRECTIONS = """
+            with all_tasks as (
+                select status, priority, assigned_user_id, creator_id from tasks
+                union all
+                select status, priority, assigned_user_id, creator_id from tasks_archive
+            ),
+            actual as (
+                select 'status_priority:' || status || ':' || priority as name, count(*) as value
+                from all_tasks group by status, priority
+                union all
+                select 'assignee:' || assigned_user_id || ':' || status, count(*)
+                from all_tasks where assigned_user_id is not null group by assigned_user_id, status
+                union all
+                select 'creator:' || creator_id || ':' || status, count(*)
+                from all_tasks group by creator_id, status
+                union all
+                select 'open_deadline:' || to_char(deadline_date, 'YYYY-MM-DD'), count(*)
+                from tasks where status <> 'DONE' and deadline_date is not null group by deadline_date
+            ),
+            counted as (
+                select name, current_value from task_counters
+                where name like 'status_priority:%' or name like 'assignee:%'
+                   or name like 'creator:%' or name like 'open_deadline:%'
+            )
+            select coalesce(a.name, c.name), coalesce(a.value, 0) - coalesce(c.current_value, 0)
+            from actual a
+            full join counted c on c.name = a.name
+            where coalesce(a.value, 0) <> coalesce(c.current_value, 0)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void addAll(SortedMap<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // two array parameters instead of a pair per counter: the statement text stays the same for
+        // any number of counters, and large batches stay far below the bind parameter limit
+        entityManager.createNativeQuery("""
+                        insert into task_counters (name, current_value)
+                        select name, delta
+                        from unnest(cast(:names as varchar[]), cast(:deltas as bigint[]))
+                             with ordinality as d(name, delta, n)
+                        order by n
+                        on conflict (name) do update
+                        set current_value = task_counters.current_value + excluded.current_value
+                        """)
+                .setParameter("names", deltas.keySet().toArray(String[]::new))
+                .setParameter("deltas", deltas.values().toArray(Long[]::new))
+                .executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public SortedMap<String, Long> findStatsCorrections() {
+        List<Object[]> rows = entityManager.createNativeQuery(STATS_CORRECTIONS).getResultList();
+        SortedMap<String, Long> corrections = new TreeMap<>();
+        for (Object[] row : rows) {
+            corrections.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return corrections;
+    }
+}
@@ -0,0 +1,46 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination over tasks ordered by id.
+ */
+public record TaskCursor(Long afterId) {
+    private static final String PREFIX = "id:";
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + afterId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (decoded.startsWith(PREFIX)) {
+                return new TaskCursor(Long.parseLong(decoded.substring(PREFIX.length())));
+            }
+        } catch (IllegalArgumentException ignored) {
+            // malformed base64 or id, reported below
+        }
+        throw new IllegalArgumentException("Invalid continuation token: " + token);
+    }
+
+    /**
+     * Resolves the keyset position of a search from either an explicit {@code afterId} or a continuation token.
+     *
+     * @return the id to seek after, or {@code null} for offset pagination
+     */
+    public static Long resolveAfterId(Long afterId, String continuationToken, Integer pageNumber) {
+        if (continuationToken != null) {
+            if (afterId != null) {
+                throw new IllegalArgumentException("Use either afterId or continuationToken, not both");
+            }
+            afterId = decode(continuationToken).afterId();
+        }
+        if (afterId != null && pageNumber != null) {
+            throw new IllegalArgumentException("pageNumber cannot be combined with keyset pagination");
+        }
+        return afterId;
+    }
+}
@@ -1,5 +1,7 @@
 package com.grapefruitapps.taskmanagementsystem.task;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Null;
@@ -23,6 +25,12 @@ public class TaskDto {
     @Null
     private LocalDateTime doneDateTime;
     private TaskPriority priority;
+    @Null
+    private LocalDateTime lastModifiedDateTime;
+    @JsonIgnore
+    private Long version;
+
+    @JsonCreator
     public TaskDto(Long id,
                    Long creatorId,
                    Long assignedUserId,
@@ -30,6 +38,19 @@ public class TaskDto {
                    LocalDateTime createDateTime,
                    LocalDate deadlineDate, LocalDateTime doneDateTime,
                    TaskPriority priority) {
+        this(id, creatorId, assignedUserId, status, createDateTime, deadlineDate, doneDateTime, priority,
+                null, null);
+    }
+
+    public TaskDto(Long id,
+                   Long creatorId,
+                   Long assignedUserId,
+                   TaskStatus status,
+                   LocalDateTime createDateTime,
+                   LocalDate deadlineDate, LocalDateTime doneDateTime,
+                   TaskPriority priority,
+                   LocalDateTime lastModifiedDateTime,
+                   Long version) {
         this.id = id;
         this.creatorId = creatorId;
         this.assignedUserId = assignedUserId;
@@ -38,6 +59,8 @@ public class TaskDto {
         this.deadlineDate = deadlineDate;
         this.doneDateTime = doneDateTime;
         this.priority = priority;
+        this.lastModifiedDateTime = lastModifiedDateTime;
+        this.version = version;
     }
 
     public Long getId() {
@@ -136,4 +159,20 @@ public class TaskDto {
     public void setDoneDateTime(LocalDateTime doneDateTime) {
         this.doneDateTime = doneDateTime;
     }
+
+    public LocalDateTime getLastModifiedDateTime() {
+        return lastModifiedDateTime;
+    }
+
+    public void setLastModifiedDateTime(LocalDateTime lastModifiedDateTime) {
+        this.lastModifiedDateTime = lastModifiedDateTime;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
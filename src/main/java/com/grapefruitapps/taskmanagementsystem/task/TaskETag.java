@@ -0,0 +1,34 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+/**
+ * Strong entity tag of a single task, derived from its version.
+ */
+public record TaskETag(Long version) {
+    private static final String ANY = "*";
+
+    public static TaskETag of(TaskDto task) {
+        return new TaskETag(task.getVersion());
+    }
+
+    public String value() {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * @return the version required by an {@code If-Match} header, or {@code null} if any version matches
+     */
+    public static Long parseIfMatch(String header) {
+        if (header == null || header.isBlank() || header.trim().equals(ANY)) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // reported below
+            }
+        }
+        throw new IllegalArgumentException("Invalid If-Match header, expected a single strong entity tag: " + header);
+    }
+}
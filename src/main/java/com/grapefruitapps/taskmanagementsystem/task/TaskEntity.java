@@ -2,15 +2,25 @@ package com.grapefruitapps.taskmanagementsystem.task;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Null;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_assigned_user_id_status", columnList = "assigned_user_id, status"),
+        @Index(name = "idx_tasks_creator_id_status", columnList = "creator_id, status"),
+        @Index(name = "idx_tasks_status_priority_create_date_time", columnList = "status, priority, create_date_time, id"),
+        @Index(name = "idx_tasks_status_done_date_time", columnList = "status, done_date_time"),
+        @Index(name = "idx_tasks_status_deadline_date", columnList = "status, deadline_date, id"),
+        @Index(name = "idx_tasks_status_deadline_date_unreported", columnList = "status, deadline_date, id",
+                options = "where overdue_date_time is null")
+})
 public class TaskEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "creator_id", nullable = false)
@@ -36,6 +46,21 @@ public class TaskEntity {
     @Enumerated(EnumType.STRING)
     private TaskPriority priority;
 
+    @ColumnDefault("localtimestamp")
+    @Column(name = "last_modified_date_time", nullable = false)
+    private LocalDateTime lastModifiedDateTime;
+
+    /**
+     * When the overdue detector reported the task; cleared whenever the deadline changes.
+     */
+    @Column(name = "overdue_date_time")
+    private LocalDateTime overdueDateTime;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public TaskEntity() {
     }
 
@@ -115,4 +140,28 @@ public class TaskEntity {
     public void setDoneDateTime(LocalDateTime doneDateTime) {
         this.doneDateTime = doneDateTime;
     }
+
+    public LocalDateTime getLastModifiedDateTime() {
+        return lastModifiedDateTime;
+    }
+
+    public void setLastModifiedDateTime(LocalDateTime lastModifiedDateTime) {
+        this.lastModifiedDateTime = lastModifiedDateTime;
+    }
+
+    public LocalDateTime getOverdueDateTime() {
+        return overdueDateTime;
+    }
+
+    public void setOverdueDateTime(LocalDateTime overdueDateTime) {
+        this.overdueDateTime = overdueDateTime;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
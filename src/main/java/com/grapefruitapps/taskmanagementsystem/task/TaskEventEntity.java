@@ -0,0 +1,113 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row describing one task mutation, written in the transaction of the mutation.
+ * <p>
+ * {@code transaction_id} is filled by the database with the id of the writing transaction.
+ * Readers order events by {@code (transaction_id, id)} and only read events of transactions
+ * older than every transaction still in flight, so an event can never appear behind a position
+ * a reader has already passed.
+ */
+@Entity
+@Immutable
+@Table(name = "task_events", indexes = {
+        @Index(name = "idx_task_events_transaction_id_id", columnList = "transaction_id, id"),
+        @Index(name = "idx_task_events_occurred_at", columnList = "occurred_at")
+})
+public class TaskEventEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_events_seq")
+    @SequenceGenerator(name = "task_events_seq", sequenceName = "task_events_seq", allocationSize = 50)
+    private Long id;
+
+    @ColumnDefault("txid_current()")
+    @Column(name = "transaction_id", nullable = false, insertable = false, updatable = false)
+    private Long transactionId;
+
+    @Column(name = "type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TaskEventType type;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "creator_id", nullable = false)
+    private Long creatorId;
+
+    @Column(name = "assigned_user_id")
+    private Long assignedUserId;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Column(name = "priority", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    private String payload;
+
+    public TaskEventEntity() {
+    }
+
+    public TaskEventEntity(TaskEventType type, TaskDto task, LocalDateTime occurredAt, String payload) {
+        this.type = type;
+        this.taskId = task.getId();
+        this.creatorId = task.getCreatorId();
+        this.assignedUserId = task.getAssignedUserId();
+        this.status = task.getStatus();
+        this.priority = task.getPriority();
+        this.occurredAt = occurredAt;
+        this.payload = payload;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTransactionId() {
+        return transactionId;
+    }
+
+    public TaskEventType getType() {
+        return type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getCreatorId() {
+        return creatorId;
+    }
+
+    public Long getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+}
@@ -0,0 +1,216 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams task events from the {@code task_events} outbox to SSE subscribers.
+ * <p>
+ * A single thread tails the outbox and fans every event out to all subscribers, so an idle
+ * subscriber costs an open connection and a list entry rather than a thread or a query.
+ * Events go into a bounded queue per subscriber that a pooled sender thread writes to the client,
+ * so the feed thread never blocks on a socket.
+ * The thread polls at {@code task.events.poll-interval} and is woken earlier by
+ * {@link TaskEventLog} when a local transaction commits events. Subscribers resuming from a
+ * {@code Last-Event-ID} are replayed from the outbox in batches before they join the live stream.
+ */
+@Component
+public class TaskEventFeed {
+    private static final Logger log = LoggerFactory.getLogger(TaskEventFeed.class);
+    private final TaskEventRepository repository;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration heartbeatInterval;
+    private final Duration emitterTimeout;
+    private final int subscriberQueueSize;
+    private final ExecutorService sender;
+
+    private final Queue<TaskEventSubscriber> pending = new ConcurrentLinkedQueue<>();
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final List<TaskEventSubscriber> live = new ArrayList<>();
+    private final List<TaskEventSubscriber> catchingUp = new ArrayList<>();
+    private TaskEventPosition head;
+    private long nextHeartbeat;
+    private volatile boolean running;
+    private Thread thread;
+
+    public TaskEventFeed(TaskEventRepository repository,
+                         @Value("${task.events.batch-size:500}") int batchSize,
+                         @Value("${task.events.poll-interval:1s}") Duration pollInterval,
+                         @Value("${task.events.heartbeat-interval:30s}") Duration heartbeatInterval,
+                         @Value("${task.events.emitter-timeout:30m}") Duration emitterTimeout,
+                         @Value("${task.events.subscriber-queue-size:1000}") int subscriberQueueSize) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.heartbeatInterval = heartbeatInterval;
+        this.emitterTimeout = emitterTimeout;
+        this.subscriberQueueSize = subscriberQueueSize;
+        this.sender = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "task-event-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param lastEventId id of the last event the client received, or {@code null} to start from now
+     */
+    public SseEmitter subscribe(TaskFilter filter, String lastEventId) {
+        TaskEventPosition cursor = lastEventId == null ? null : TaskEventPosition.decode(lastEventId);
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        pending.add(new TaskEventSubscriber(emitter, filter, cursor, subscriberQueueSize, sender));
+        signal();
+        log.debug("Subscribed to task events: filter={}, lastEventId={}", filter, lastEventId);
+        return emitter;
+    }
+
+    void signal() {
+        if (wakeUp.availablePermits() == 0) {
+            wakeUp.release();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "task-event-feed");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        log.info("Task event feed started");
+        while (running) {
+            try {
+                if (!dispatch()) {
+                    wakeUp.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    wakeUp.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.warn("Task event dispatch failed", e);
+                try {
+                    Thread.sleep(pollInterval.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        live.forEach(TaskEventSubscriber::complete);
+        catchingUp.forEach(TaskEventSubscriber::complete);
+        sender.shutdown();
+        log.info("Task event feed stopped");
+    }
+
+    /**
+     * @return {@code true} if there may be more events to send right away
+     */
+    private boolean dispatch() {
+        if (head == null) {
+            head = repository.findLatest().map(TaskEventPosition::of).orElse(TaskEventPosition.START);
+        }
+        TaskEventSubscriber subscriber;
+        while ((subscriber = pending.poll()) != null) {
+            if (subscriber.getCursor() == null) {
+                subscriber.setCursor(head);
+                live.add(subscriber);
+            } else {
+                catchingUp.add(subscriber);
+            }
+        }
+
+        List<TaskEventEntity> events = repository.findAfter(head.transactionId(), head.id(), batchSize);
+        for (TaskEventEntity event : events) {
+            for (TaskEventSubscriber liveSubscriber : live) {
+                liveSubscriber.deliver(event);
+            }
+        }
+        if (!events.isEmpty()) {
+            head = TaskEventPosition.of(events.get(events.size() - 1));
+        }
+        boolean busy = events.size() == batchSize;
+
+        for (Iterator<TaskEventSubscriber> iterator = catchingUp.iterator(); iterator.hasNext(); ) {
+            TaskEventSubscriber replaying = iterator.next();
+            if (replaying.remainingCapacity() == 0) {
+                // retried on the next poll, once the sender has made room
+                continue;
+            }
+            if (replay(replaying)) {
+                iterator.remove();
+                live.add(replaying);
+            } else {
+                busy = true;
+            }
+        }
+
+        long now = System.nanoTime();
+        if (now - nextHeartbeat >= 0) {
+            live.forEach(TaskEventSubscriber::heartbeat);
+            nextHeartbeat = now + heartbeatInterval.toNanos();
+        }
+        live.removeIf(TaskEventSubscriber::isClosed);
+        catchingUp.removeIf(TaskEventSubscriber::isClosed);
+        return busy;
+    }
+
+    /**
+     * Sends the subscriber one batch of the events it missed, up to the live head, no larger than
+     * the room left in its queue.
+     *
+     * @return {@code true} once the subscriber has caught up with the head
+     */
+    private boolean replay(TaskEventSubscriber subscriber) {
+        TaskEventPosition cursor = subscriber.getCursor();
+        if (cursor.compareTo(head) >= 0) {
+            subscriber.setCursor(head);
+            return true;
+        }
+        int limit = Math.min(batchSize, subscriber.remainingCapacity());
+        List<TaskEventEntity> events = repository.findAfter(cursor.transactionId(), cursor.id(), limit);
+        for (TaskEventEntity event : events) {
+            if (TaskEventPosition.of(event).compareTo(head) > 0) {
+                subscriber.setCursor(head);
+                return true;
+            }
+            subscriber.deliver(event);
+        }
+        if (events.size() < limit) {
+            subscriber.setCursor(head);
+            return true;
+        }
+        return false;
+    }
+}
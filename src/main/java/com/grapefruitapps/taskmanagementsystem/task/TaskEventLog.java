@@ -0,0 +1,76 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Appends task change events to the {@code task_events} outbox in the caller's transaction
+ * and wakes the {@link TaskEventFeed} once that transaction commits.
+ * <p>
+ * Events older than {@code task.events.retention} are deleted unless a relay still has to publish them.
+ * A relay whose last heartbeat is older than {@code task.outbox.relay.inactive-after} no longer holds
+ * events back, so one that was disabled or whose instances are gone does not stop the cleanup.
+ */
+@Component
+public class TaskEventLog {
+    private static final Logger log = LoggerFactory.getLogger(TaskEventLog.class);
+    private final TaskEventRepository repository;
+    private final TaskEventFeed feed;
+    private final JsonMapper jsonMapper;
+    private final Duration retention;
+    private final Duration relayInactiveAfter;
+
+    public TaskEventLog(TaskEventRepository repository, TaskEventFeed feed, JsonMapper jsonMapper,
+                        @Value("${task.events.retention:P7D}") Duration retention,
+                        @Value("${task.outbox.relay.inactive-after:P1D}") Duration relayInactiveAfter) {
+        this.repository = repository;
+        this.feed = feed;
+        this.jsonMapper = jsonMapper;
+        this.retention = retention;
+        this.relayInactiveAfter = relayInactiveAfter;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(TaskEventType type, TaskDto task) {
+        recordAll(type, List.of(task));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(TaskEventType type, Collection<TaskDto> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        repository.saveAll(tasks.stream()
+                .map(task -> new TaskEventEntity(type, task, now, jsonMapper.writeValueAsString(task)))
+                .toList());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                feed.signal();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${task.events.cleanup-interval:PT1H}",
+            initialDelayString = "${task.events.cleanup-interval:PT1H}")
+    @Transactional
+    public void cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = repository.deleteOccurredBefore(now.minus(retention), now.minus(relayInactiveAfter));
+        log.info("Deleted {} task events older than {}", deleted, retention);
+    }
+}
@@ -0,0 +1,29 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task event as handed to a {@link TaskEventPublisher}.
+ *
+ * @param id   position of the event in the outbox, increasing in publishing order
+ * @param task the task as JSON, in the same shape the REST API returns it
+ */
+public record TaskEventMessage(
+        String id,
+        TaskEventType type,
+        Long taskId,
+        LocalDateTime occurredAt,
+        @JsonRawValue String task
+) {
+    public static TaskEventMessage of(TaskEventEntity event) {
+        return new TaskEventMessage(
+                TaskEventPosition.of(event).encode(),
+                event.getType(),
+                event.getTaskId(),
+                event.getOccurredAt(),
+                event.getPayload()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+/**
+ * Position of an event in the task event log, used as the SSE event id.
+ */
+public record TaskEventPosition(long transactionId, long id) implements Comparable<TaskEventPosition> {
+    public static final TaskEventPosition START = new TaskEventPosition(0, 0);
+
+    public static TaskEventPosition of(TaskEventEntity event) {
+        return new TaskEventPosition(event.getTransactionId(), event.getId());
+    }
+
+    public String encode() {
+        return transactionId + "-" + id;
+    }
+
+    public static TaskEventPosition decode(String value) {
+        int separator = value.indexOf('-');
+        if (separator > 0) {
+            try {
+                return new TaskEventPosition(Long.parseLong(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+            } catch (NumberFormatException ignored) {
+                // reported below
+            }
+        }
+        throw new IllegalArgumentException("Invalid event id: " + value);
+    }
+
+    @Override
+    public int compareTo(TaskEventPosition other) {
+        int result = Long.compare(transactionId, other.transactionId);
+        return result != 0 ? result : Long.compare(id, other.id);
+    }
+}
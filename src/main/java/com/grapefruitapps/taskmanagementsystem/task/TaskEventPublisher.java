@@ -0,0 +1,21 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.util.List;
+
+/**
+ * Destination of the {@link TaskEventRelay}. Select a built-in one with {@code task.outbox.publisher}
+ * ({@code logging}, {@code memory} or {@code file}) or set it to any other value and declare
+ * a bean of this type.
+ * <p>
+ * Delivery is at least once: a batch may be offered again if the relay fails before it records
+ * its progress, so consumers should deduplicate by {@link TaskEventMessage#id()}.
+ */
+public interface TaskEventPublisher {
+    /**
+     * Publishes the events in order. A publisher that cannot keep up may accept only a prefix of
+     * the batch; the relay backs off and offers the rest again later.
+     *
+     * @return how many leading events were published
+     */
+    int publish(List<TaskEventMessage> events);
+}
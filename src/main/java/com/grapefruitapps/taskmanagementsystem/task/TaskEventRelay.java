@@ -0,0 +1,125 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains the {@code task_events} outbox to the {@link TaskEventPublisher} off the request path.
+ * <p>
+ * Each batch runs in one transaction that locks the relay offset row, publishes the events after
+ * the offset and moves the offset past the published ones, so only one instance relays at a time
+ * and a failed batch is offered again. When the publisher accepts less than it is offered or
+ * fails, the relay backs off exponentially up to {@code task.outbox.relay.max-backoff}. Every batch
+ * also records a heartbeat on the offset row, which tells event retention the relay is still active.
+ */
+@Component
+@ConditionalOnProperty(name = "task.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskEventRelay {
+    static final String RELAY_NAME = "default";
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEventRelay.class);
+    private final TaskEventRepository eventRepository;
+    private final TaskEventRelayOffsetRepository offsetRepository;
+    private final TaskEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskMetrics metrics;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration pollInterval;
+    private final Duration maxBackoff;
+
+    private Duration backoff = Duration.ZERO;
+    private long resumeAt;
+
+    public TaskEventRelay(TaskEventRepository eventRepository, TaskEventRelayOffsetRepository offsetRepository,
+                          TaskEventPublisher publisher, PlatformTransactionManager transactionManager,
+                          TaskMetrics metrics,
+                          @Value("${task.outbox.relay.batch-size:500}") int batchSize,
+                          @Value("${task.outbox.relay.max-batches-per-poll:20}") int maxBatchesPerPoll,
+                          @Value("${task.outbox.relay.poll-interval:1s}") Duration pollInterval,
+                          @Value("${task.outbox.relay.max-backoff:1m}") Duration maxBackoff) {
+        this.eventRepository = eventRepository;
+        this.offsetRepository = offsetRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.metrics = metrics;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.pollInterval = pollInterval;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void register() {
+        transactionTemplate.executeWithoutResult(status -> offsetRepository.register(RELAY_NAME, LocalDateTime.now()));
+        log.info("Task event relay started, publisher: {}", publisher.getClass().getSimpleName());
+    }
+
+    @Scheduled(fixedDelayString = "${task.outbox.relay.poll-interval:1s}")
+    public void relay() {
+        if (System.nanoTime() - resumeAt < 0) {
+            return;
+        }
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                BatchResult result = transactionTemplate.execute(status -> relayBatch());
+                if (result.accepted() < result.offered()) {
+                    log.warn("Task event publisher accepted {} of {} events", result.accepted(), result.offered());
+                    metrics.outboxSaturated();
+                    backOff();
+                    return;
+                }
+                backoff = Duration.ZERO;
+                if (result.offered() < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Task event relay failed", e);
+            backOff();
+        }
+    }
+
+    private BatchResult relayBatch() {
+        TaskEventRelayOffsetEntity offset = offsetRepository.findForUpdateSkipLocked(RELAY_NAME).orElse(null);
+        if (offset == null) {
+            return new BatchResult(0, 0);
+        }
+        offset.setHeartbeatDateTime(LocalDateTime.now());
+        TaskEventPosition position = offset.getPosition();
+        List<TaskEventEntity> events = eventRepository.findAfter(position.transactionId(), position.id(), batchSize);
+        if (events.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+        int accepted = publisher.publish(events.stream().map(TaskEventMessage::of).toList());
+        if (accepted > 0) {
+            offset.setPosition(TaskEventPosition.of(events.get(accepted - 1)));
+            metrics.outboxPublished(accepted);
+        }
+        log.debug("Relayed {} of {} task events", accepted, events.size());
+        return new BatchResult(events.size(), accepted);
+    }
+
+    private void backOff() {
+        backoff = backoff.isZero() ? pollInterval : backoff.multipliedBy(2);
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        resumeAt = System.nanoTime() + backoff.toNanos();
+    }
+
+    private record BatchResult(int offered, int accepted) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position up to which a relay has published the {@code task_events} outbox, and when the relay last
+ * held it. Event retention only waits for relays seen recently, so a relay that was switched off does
+ * not keep the outbox forever.
+ */
+@Entity
+@Table(name = "task_event_relay_offsets")
+public class TaskEventRelayOffsetEntity {
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "transaction_id", nullable = false)
+    private long transactionId;
+
+    @Column(name = "event_id", nullable = false)
+    private long eventId;
+
+    @Column(name = "heartbeat_date_time")
+    private LocalDateTime heartbeatDateTime;
+
+    public TaskEventRelayOffsetEntity() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TaskEventPosition getPosition() {
+        return new TaskEventPosition(transactionId, eventId);
+    }
+
+    public void setPosition(TaskEventPosition position) {
+        this.transactionId = position.transactionId();
+        this.eventId = position.id();
+    }
+
+    public LocalDateTime getHeartbeatDateTime() {
+        return heartbeatDateTime;
+    }
+
+    public void setHeartbeatDateTime(LocalDateTime heartbeatDateTime) {
+        this.heartbeatDateTime = heartbeatDateTime;
+    }
+}
@@ -0,0 +1,32 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface TaskEventRelayOffsetRepository extends JpaRepository<TaskEventRelayOffsetEntity, String> {
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into task_event_relay_offsets (name, transaction_id, event_id, heartbeat_date_time)
+            values (:name, 0, 0, :now)
+            on conflict (name) do update
+            set heartbeat_date_time = excluded.heartbeat_date_time
+            """)
+    void register(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    /**
+     * @return empty if another instance holds the offset
+     */
+    @Query(nativeQuery = true, value = """
+            select * from task_event_relay_offsets
+            where name = :name
+            for update skip locked
+            """)
+    Optional<TaskEventRelayOffsetEntity> findForUpdateSkipLocked(@Param("name") String name);
+}
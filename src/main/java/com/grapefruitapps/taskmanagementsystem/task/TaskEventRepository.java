@@ -0,0 +1,52 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskEventRepository extends JpaRepository<TaskEventEntity, Long> {
+    /**
+     * Events after the given position, restricted to transactions that finished before the oldest
+     * transaction still running.
+     */
+    @Query(nativeQuery = true, value = """
+            select * from task_events
+            where (transaction_id, id) > (:transactionId, :id)
+                and transaction_id < txid_snapshot_xmin(txid_current_snapshot())
+            order by transaction_id, id
+            limit :limit
+            """)
+    List<TaskEventEntity> findAfter(@Param("transactionId") long transactionId, @Param("id") long id,
+                                    @Param("limit") int limit);
+
+    @Query(nativeQuery = true, value = """
+            select * from task_events
+            where transaction_id < txid_snapshot_xmin(txid_current_snapshot())
+            order by transaction_id desc, id desc
+            limit 1
+            """)
+    Optional<TaskEventEntity> findLatest();
+
+    /**
+     * Deletes old events, keeping those a relay seen since {@code relayActiveSince} has not published yet.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            delete from task_events e
+            where e.occurred_at < :before
+                and not exists (
+                    select 1 from task_event_relay_offsets o
+                    where o.heartbeat_date_time >= :relayActiveSince
+                        and (e.transaction_id, e.id) > (o.transaction_id, o.event_id)
+                )
+            """)
+    int deleteOccurredBefore(@Param("before") LocalDateTime before,
+                             @Param("relayActiveSince") LocalDateTime relayActiveSince);
+}
@@ -0,0 +1,138 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One SSE client of the {@link TaskEventFeed}. The feed thread only enqueues events; a sender
+ * thread drains the bounded queue into the emitter, so a slow client delays nobody else.
+ * A client that falls a whole queue behind is disconnected and resumes with {@code Last-Event-ID}.
+ * The container may close it from any thread.
+ */
+class TaskEventSubscriber {
+    private final SseEmitter emitter;
+    private final TaskFilter filter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+    private final Executor sender;
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private TaskEventPosition cursor;
+    private volatile boolean closed;
+    private volatile boolean completing;
+    private boolean completed;
+
+    TaskEventSubscriber(SseEmitter emitter, TaskFilter filter, TaskEventPosition cursor,
+                        int queueCapacity, Executor sender) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.cursor = cursor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.sender = sender;
+        emitter.onCompletion(this::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> close());
+    }
+
+    TaskEventPosition getCursor() {
+        return cursor;
+    }
+
+    void setCursor(TaskEventPosition cursor) {
+        this.cursor = cursor;
+    }
+
+    boolean isClosed() {
+        return closed || completing;
+    }
+
+    int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    void deliver(TaskEventEntity event) {
+        TaskEventPosition position = TaskEventPosition.of(event);
+        if (position.compareTo(cursor) <= 0) {
+            return;
+        }
+        cursor = position;
+        if (isClosed() || !matches(event)) {
+            return;
+        }
+        enqueue(SseEmitter.event()
+                .id(position.encode())
+                .name(event.getType().name())
+                .data(event.getPayload()));
+    }
+
+    void heartbeat() {
+        if (!isClosed()) {
+            enqueue(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private boolean matches(TaskEventEntity event) {
+        return (filter.creatorId() == null || filter.creatorId().equals(event.getCreatorId()))
+                && (filter.assignedUserId() == null || filter.assignedUserId().equals(event.getAssignedUserId()))
+                && (filter.status() == null || filter.status() == event.getStatus())
+                && (filter.priority() == null || filter.priority() == event.getPriority());
+    }
+
+    private void enqueue(SseEmitter.SseEventBuilder event) {
+        if (!queue.offer(event)) {
+            // the client fell too far behind: end the stream, it resumes from the last event it received
+            complete();
+            return;
+        }
+        drain();
+    }
+
+    /**
+     * Starts a sender task unless one is already running; the task re-checks the queue after
+     * releasing the flag, so an event enqueued meanwhile is not left behind.
+     */
+    private void drain() {
+        if (sending.compareAndSet(false, true)) {
+            sender.execute(this::send);
+        }
+    }
+
+    private void send() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!completing && !closed && (event = queue.poll()) != null) {
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // the container reports the broken connection through onError
+                    close();
+                }
+            }
+            if (completing && !completed) {
+                completed = true;
+                close();
+                emitter.complete();
+            }
+        } finally {
+            sending.set(false);
+        }
+        if (completing ? !completed : !closed && !queue.isEmpty()) {
+            drain();
+        }
+    }
+
+    /**
+     * Ends the stream from the sender thread, so the caller never waits for a client.
+     */
+    void complete() {
+        completing = true;
+        drain();
+    }
+
+    private void close() {
+        closed = true;
+    }
+}
@@ -0,0 +1,19 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    STARTED,
+    COMPLETED,
+    RESUMED,
+    DELETED,
+    OVERDUE;
+
+    public static TaskEventType of(TaskTransition transition) {
+        return switch (transition) {
+            case START -> STARTED;
+            case COMPLETE -> COMPLETED;
+            case RESUME -> RESUMED;
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.springframework.http.MediaType;
+
+public enum TaskExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    TaskExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,66 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes exported tasks one at a time to the response stream.
+ */
+interface TaskExportWriter {
+    void write(TaskDto task) throws IOException;
+
+    void flush() throws IOException;
+
+    static TaskExportWriter ndjson(JsonMapper jsonMapper, OutputStream outputStream) {
+        SequenceWriter sequenceWriter = jsonMapper.writer()
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream);
+        return new TaskExportWriter() {
+            @Override
+            public void write(TaskDto task) {
+                sequenceWriter.write(task);
+            }
+
+            @Override
+            public void flush() {
+                sequenceWriter.flush();
+            }
+        };
+    }
+
+    static TaskExportWriter csv(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write("id,creatorId,assignedUserId,status,createDateTime,deadlineDate,doneDateTime,priority\n");
+        return new TaskExportWriter() {
+            @Override
+            public void write(TaskDto task) throws IOException {
+                writer.write(String.join(",",
+                        value(task.getId()),
+                        value(task.getCreatorId()),
+                        value(task.getAssignedUserId()),
+                        value(task.getStatus()),
+                        value(task.getCreateDateTime()),
+                        value(task.getDeadlineDate()),
+                        value(task.getDoneDateTime()),
+                        value(task.getPriority())));
+                writer.write('\n');
+            }
+
+            @Override
+            public void flush() throws IOException {
+                writer.flush();
+            }
+        };
+    }
+
+    private static String value(Object value) {
+        return value != null ? value.toString() : "";
+    }
+}
@@ -6,5 +6,22 @@ public record TaskFilter (
         TaskStatus status,
         TaskPriority priority,
         Integer pageSize,
-        Integer pageNumber
-) {}
\ No newline at end of file
+        Integer pageNumber,
+        Long afterId
+) {
+    /**
+     * Validates the paging fields for offset and keyset searches alike; a {@code null} field takes its default.
+     */
+    public TaskFilter {
+        if (pageSize != null && pageSize < 1) {
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+        if (pageNumber != null && pageNumber < 0) {
+            throw new IllegalArgumentException("Page index must not be less than zero");
+        }
+    }
+
+    public boolean isKeyset() {
+        return afterId != null;
+    }
+}
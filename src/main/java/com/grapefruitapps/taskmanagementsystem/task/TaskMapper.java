@@ -13,7 +13,9 @@ public class TaskMapper {
                 entity.getCreateDateTime(),
                 entity.getDeadlineDate(),
                 entity.getDoneDateTime(),
-                entity.getPriority()
+                entity.getPriority(),
+                entity.getLastModifiedDateTime(),
+                entity.getVersion()
         );
     }
 
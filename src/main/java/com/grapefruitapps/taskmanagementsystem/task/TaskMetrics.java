@@ -0,0 +1,89 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Task-specific meters. All meters are registered up front, so recording is a lookup in an enum map
+ * and an atomic increment.
+ */
+@Component
+public class TaskMetrics {
+    private final DistributionSummary offsetSearchRows;
+    private final DistributionSummary keysetSearchRows;
+    private final Map<TaskTransition, Map<TaskTransitionRejection, Counter>> rejectedTransitions =
+            new EnumMap<>(TaskTransition.class);
+    private final Map<TaskTransition, Counter> rejectedAdmissions = new EnumMap<>(TaskTransition.class);
+    private final Counter outboxPublished;
+    private final Counter outboxSaturated;
+    private final Counter overdueDetected;
+
+    public TaskMetrics(MeterRegistry registry) {
+        this.offsetSearchRows = searchRows(registry, "offset");
+        this.keysetSearchRows = searchRows(registry, "keyset");
+        this.outboxPublished = Counter.builder("tasks.outbox.published")
+                .description("Task events handed to the publisher")
+                .register(registry);
+        this.outboxSaturated = Counter.builder("tasks.outbox.saturated")
+                .description("Relay batches the publisher did not fully accept")
+                .register(registry);
+        this.overdueDetected = Counter.builder("tasks.overdue.detected")
+                .description("Tasks reported as past their deadline")
+                .register(registry);
+
+        for (TaskTransition transition : TaskTransition.values()) {
+            Map<TaskTransitionRejection, Counter> counters = new EnumMap<>(TaskTransitionRejection.class);
+            for (TaskTransitionRejection rejection : TaskTransitionRejection.values()) {
+                counters.put(rejection, Counter.builder("tasks.transitions.rejected")
+                        .description("Lifecycle transitions that were not applied")
+                        .tag("transition", transition.getAction())
+                        .tag("reason", rejection.tag())
+                        .register(registry));
+            }
+            rejectedTransitions.put(transition, counters);
+            if (transition.acquiresInProgressSlot()) {
+                rejectedAdmissions.put(transition, Counter.builder("tasks.admission.rejected")
+                        .description("Transitions refused because the in-progress limit was reached")
+                        .tag("transition", transition.getAction())
+                        .register(registry));
+            }
+        }
+    }
+
+    public void outboxPublished(int events) {
+        outboxPublished.increment(events);
+    }
+
+    public void outboxSaturated() {
+        outboxSaturated.increment();
+    }
+
+    public void overdueDetected(int tasks) {
+        overdueDetected.increment(tasks);
+    }
+
+    public void searchRows(boolean keyset, int rows) {
+        (keyset ? keysetSearchRows : offsetSearchRows).record(rows);
+    }
+
+    public void transitionRejected(TaskTransition transition, TaskTransitionRejection rejection) {
+        rejectedTransitions.get(transition).get(rejection).increment();
+        if (rejection == TaskTransitionRejection.IN_PROGRESS_LIMIT) {
+            rejectedAdmissions.get(transition).increment();
+        }
+    }
+
+    private static DistributionSummary searchRows(MeterRegistry registry, String mode) {
+        return DistributionSummary.builder("tasks.search.rows")
+                .description("Rows returned per task search")
+                .baseUnit("rows")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
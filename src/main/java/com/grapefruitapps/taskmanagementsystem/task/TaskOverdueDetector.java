@@ -0,0 +1,79 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Periodically reports tasks that are not DONE and whose deadline has passed: each is marked once
+ * and an {@link TaskEventType#OVERDUE} event is appended to the outbox. The scan walks the partial
+ * {@code (status, deadline_date)} index of unreported tasks in keyset order, one short transaction
+ * per batch, so tasks reported earlier are not read again.
+ */
+@Component
+@ConditionalOnProperty(name = "task.overdue.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskOverdueDetector {
+    private static final Logger log = LoggerFactory.getLogger(TaskOverdueDetector.class);
+    private final TaskRepository repository;
+    private final TaskEventLog eventLog;
+    private final TaskMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public TaskOverdueDetector(TaskRepository repository, TaskEventLog eventLog, TaskMetrics metrics,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${task.overdue.batch-size:1000}") int batchSize) {
+        this.repository = repository;
+        this.eventLog = eventLog;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${task.overdue.interval:PT10M}",
+            fixedDelayString = "${task.overdue.interval:PT10M}")
+    public void detect() {
+        LocalDate today = LocalDate.now();
+        int detected = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            if (status != TaskStatus.DONE) {
+                detected += detect(status, today);
+            }
+        }
+        metrics.overdueDetected(detected);
+        log.info("Detected {} overdue tasks with deadline before {}", detected, today);
+    }
+
+    private int detect(TaskStatus status, LocalDate today) {
+        LocalDate afterDeadlineDate = null;
+        Long afterId = null;
+        int detected = 0;
+        while (true) {
+            LocalDate fromDeadlineDate = afterDeadlineDate;
+            Long fromId = afterId;
+            List<TaskDto> tasks = transactionTemplate.execute(transactionStatus -> {
+                List<TaskDto> marked = repository.markOverdue(
+                        status, today, fromDeadlineDate, fromId, batchSize, LocalDateTime.now());
+                eventLog.recordAll(TaskEventType.OVERDUE, marked);
+                return marked;
+            });
+            detected += tasks.size();
+            if (tasks.size() < batchSize) {
+                return detected;
+            }
+            TaskDto last = tasks.get(tasks.size() - 1);
+            afterDeadlineDate = last.getDeadlineDate();
+            afterId = last.getId();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Finds tasks past their deadline by walking the {@code (status, deadline_date)} index of tasks
+ * not yet reported ({@code idx_tasks_status_deadline_date_unreported}).
+ */
+public interface TaskOverdueRepository {
+    /**
+     * Marks up to {@code limit} not yet reported tasks with the given status whose deadline is
+     * before {@code today}, continuing after the {@code (afterDeadlineDate, afterId)} position
+     * (both null to start from the earliest deadline). Tasks locked by other transactions are skipped.
+     *
+     * @return the marked tasks ordered by deadline and id
+     */
+    List<TaskDto> markOverdue(TaskStatus status, LocalDate today, LocalDate afterDeadlineDate, Long afterId,
+                              int limit, LocalDateTime now);
+}
@@ -0,0 +1,64 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+class TaskOverdueRepositoryImpl implements TaskOverdueRepository {
+    private static final String LOCK_OVERDUE = """
+            select id from tasks
+            where status = :status and deadline_date < :today and overdue_date_time is null%s
+            order by deadline_date, id
+            limit :limit
+            for update skip locked
+            """;
+
+    private static final String LOCK_FIRST_OVERDUE = LOCK_OVERDUE.formatted("");
+    private static final String LOCK_NEXT_OVERDUE =
+            LOCK_OVERDUE.formatted(" and (deadline_date, id) > (:afterDeadlineDate, :afterId)");
+
+    private static final String MARK_OVERDUE = """
+            update tasks set overdue_date_time = :now
+            where id in (:ids)
+            returning %s
+            """.formatted(TaskRows.COLUMNS);
+
+    private static final Comparator<TaskDto> DEADLINE_ORDER =
+            Comparator.comparing(TaskDto::getDeadlineDate).thenComparing(TaskDto::getId);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskDto> markOverdue(TaskStatus status, LocalDate today, LocalDate afterDeadlineDate, Long afterId,
+                                     int limit, LocalDateTime now) {
+        String sql = afterId == null ? LOCK_FIRST_OVERDUE : LOCK_NEXT_OVERDUE;
+        Query lock = entityManager.createNativeQuery(sql, Long.class)
+                .setParameter("status", status.name())
+                .setParameter("today", today)
+                .setParameter("limit", limit);
+        if (afterId != null) {
+            lock.setParameter("afterDeadlineDate", afterDeadlineDate)
+                    .setParameter("afterId", afterId);
+        }
+        List<Long> ids = lock.getResultList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        NativeQuery<Object[]> mark = entityManager.createNativeQuery(MARK_OVERDUE).unwrap(NativeQuery.class);
+        mark.setParameter("ids", ids)
+                .setParameter("now", now);
+        return TaskRows.addScalars(mark).getResultList().stream()
+                .map(TaskRows::toDto)
+                .sorted(DEADLINE_ORDER)
+                .toList();
+    }
+}
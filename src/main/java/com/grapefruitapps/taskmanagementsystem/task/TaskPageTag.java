@@ -0,0 +1,37 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Entity tag of a page of tasks, digested from the ids and versions of the tasks on the page.
+ * It is weak because the page is served gzip-encoded or not depending on the client.
+ */
+public record TaskPageTag(String value) {
+    private static final int DIGEST_BYTES = 16;
+
+    public static TaskPageTag of(List<TaskStamp> stamps) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+        for (TaskStamp stamp : stamps) {
+            buffer.clear();
+            buffer.putLong(stamp.id()).putLong(stamp.version());
+            digest.update(buffer.array());
+        }
+        byte[] hash = digest.digest();
+        return new TaskPageTag("W/\"" + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(hash, DIGEST_BYTES)) + "\"");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.time.LocalDate;
+
+/**
+ * Changes applied by a bulk update; {@code null} fields are left as they are.
+ */
+public record TaskPatch(
+        Long assignedUserId,
+        TaskPriority priority,
+        LocalDate deadlineDate
+) {
+    public boolean isEmpty() {
+        return assignedUserId == null && priority == null && deadlineDate == null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read-only queries that project tasks straight into {@link TaskDto}
+ * without creating managed {@link TaskEntity} instances.
+ */
+public interface TaskQueryRepository {
+    List<TaskDto> findDtos(Specification<TaskEntity> specification, Sort sort, long offset, int limit);
+
+    /**
+     * Same window as {@link #findDtos}, reading only the columns that identify a task revision.
+     */
+    List<TaskStamp> findStamps(Specification<TaskEntity> specification, Sort sort, long offset, int limit);
+
+    List<TaskDto> findArchivedDtos(Specification<TaskArchiveEntity> specification, Sort sort, long offset, int limit);
+
+    List<TaskStamp> findArchivedStamps(Specification<TaskArchiveEntity> specification, Sort sort,
+                                       long offset, int limit);
+
+    /**
+     * Streams over a forward-only cursor; must be consumed and closed inside a transaction.
+     */
+    Stream<TaskDto> streamDtos(Specification<TaskEntity> specification, Sort sort, int fetchSize);
+}
@@ -0,0 +1,89 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+class TaskQueryRepositoryImpl implements TaskQueryRepository {
+    private static final List<String> DTO_ATTRIBUTES = List.of(
+            "id", "creatorId", "assignedUserId", "status", "createDateTime", "deadlineDate", "doneDateTime",
+            "priority", "lastModifiedDateTime", "version");
+    private static final List<String> STAMP_ATTRIBUTES = List.of("id", "version");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskDto> findDtos(Specification<TaskEntity> specification, Sort sort, long offset, int limit) {
+        return createQuery(specification, sort)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<TaskStamp> findStamps(Specification<TaskEntity> specification, Sort sort, long offset, int limit) {
+        return createQuery(TaskEntity.class, TaskStamp.class, specification, sort, STAMP_ATTRIBUTES)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<TaskDto> findArchivedDtos(Specification<TaskArchiveEntity> specification, Sort sort,
+                                          long offset, int limit) {
+        return createQuery(TaskArchiveEntity.class, TaskDto.class, specification, sort, DTO_ATTRIBUTES)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<TaskStamp> findArchivedStamps(Specification<TaskArchiveEntity> specification, Sort sort,
+                                              long offset, int limit) {
+        return createQuery(TaskArchiveEntity.class, TaskStamp.class, specification, sort, STAMP_ATTRIBUTES)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<TaskDto> streamDtos(Specification<TaskEntity> specification, Sort sort, int fetchSize) {
+        return createQuery(specification, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    private TypedQuery<TaskDto> createQuery(Specification<TaskEntity> specification, Sort sort) {
+        return createQuery(TaskEntity.class, TaskDto.class, specification, sort, DTO_ATTRIBUTES);
+    }
+
+    private <E, T> TypedQuery<T> createQuery(Class<E> entity, Class<T> type, Specification<E> specification,
+                                             Sort sort, List<String> attributes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<E> root = query.from(entity);
+
+        query.select(cb.construct(type, attributes.stream().map(root::get).toArray(Selection[]::new)));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+}
@@ -1,52 +1,43 @@
 package com.grapefruitapps.taskmanagementsystem.task;
 
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<TaskEntity, Long> {
-    @Transactional
-    @Modifying
-    @Query("update TaskEntity t set t.status = :status where t.id = :id")
-    void setStatus(
-            @Param("id") Long id,
-            @Param("status") TaskStatus status);
+public interface TaskRepository extends JpaRepository<TaskEntity, Long>, JpaSpecificationExecutor<TaskEntity>,
+        TaskQueryRepository, TaskTransitionRepository, TaskUpdateRepository, TaskBatchRepository,
+        TaskArchiveRepository, TaskOverdueRepository, TaskClaimRepository,
+        TaskBulkUpdateRepository {
+    long countByStatus(TaskStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from TaskEntity t where t.id = :id")
+    Optional<TaskEntity> findForUpdateById(@Param("id") Long id);
 
-    @Transactional
-    @Modifying
     @Query("""
-            update TaskEntity t
-            set t.status = :status, t.doneDateTime = :doneDateTime
+            select new com.grapefruitapps.taskmanagementsystem.task.TaskDto(
+                t.id, t.creatorId, t.assignedUserId, t.status,
+                t.createDateTime, t.deadlineDate, t.doneDateTime, t.priority,
+                t.lastModifiedDateTime, t.version)
+            from TaskEntity t
             where t.id = :id
             """)
-    void setStatusAndDoneDateTime(
-            @Param("id") Long id,
-            @Param("status") TaskStatus status,
-            @Param("doneDateTime") LocalDateTime doneDateTime);
-
-    long countByStatus(TaskStatus status);
+    Optional<TaskDto> findDtoById(@Param("id") Long id);
 
-    @Query ("""
-            select t from TaskEntity t
-            where (:creatorId is null or t.creatorId = :creatorId)
-            and (:assignedUserId is null or t.assignedUserId = :assignedUserId)
-            and (:status is null or t.status = :status)
-            and (:priority is null or t.priority = :priority)
-            order by t.id
+    @Query("""
+            select new com.grapefruitapps.taskmanagementsystem.task.TaskDto(
+                t.id, t.creatorId, t.assignedUserId, t.status,
+                t.createDateTime, t.deadlineDate, t.doneDateTime, t.priority,
+                t.lastModifiedDateTime, t.version)
+            from TaskArchiveEntity t
+            where t.id = :id
             """)
-    List<TaskEntity> searchAllByFilter(
-            @Param("creatorId") Long creatorId,
-            @Param("assignedUserId") Long assignedUserId,
-            @Param("status") TaskStatus status,
-            @Param("priority") TaskPriority priority,
-            Pageable pageable
-    );
+    Optional<TaskDto> findArchivedDtoById(@Param("id") Long id);
 }
@@ -0,0 +1,47 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Maps {@code tasks} rows returned by native statements to {@link TaskDto}.
+ */
+final class TaskRows {
+    static final String COLUMNS = """
+            id, creator_id, assigned_user_id, status, create_date_time, deadline_date, done_date_time, priority, \
+            last_modified_date_time, version""";
+    static final int COLUMN_COUNT = 10;
+
+    private TaskRows() {
+    }
+
+    static NativeQuery<Object[]> addScalars(NativeQuery<Object[]> query) {
+        return query.addScalar("id", Long.class)
+                .addScalar("creator_id", Long.class)
+                .addScalar("assigned_user_id", Long.class)
+                .addScalar("status", String.class)
+                .addScalar("create_date_time", LocalDateTime.class)
+                .addScalar("deadline_date", LocalDate.class)
+                .addScalar("done_date_time", LocalDateTime.class)
+                .addScalar("priority", String.class)
+                .addScalar("last_modified_date_time", LocalDateTime.class)
+                .addScalar("version", Long.class);
+    }
+
+    static TaskDto toDto(Object[] row) {
+        return new TaskDto(
+                (Long) row[0],
+                (Long) row[1],
+                (Long) row[2],
+                TaskStatus.valueOf((String) row[3]),
+                (LocalDateTime) row[4],
+                (LocalDate) row[5],
+                (LocalDateTime) row[6],
+                TaskPriority.valueOf((String) row[7]),
+                (LocalDateTime) row[8],
+                (Long) row[9]
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Reflection the AOT engine cannot infer from controller signatures: the constructor expressions
+ * of {@link TaskQueryRepositoryImpl} and the types written with the {@code JsonMapper} directly
+ * (outbox payloads, SSE events and exports).
+ */
+public class TaskRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(TaskDto.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .registerType(TaskStamp.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        new BindingReflectionHintsRegistrar()
+                .registerReflectionHints(hints.reflection(), TaskDto.class, TaskEventMessage.class);
+    }
+}
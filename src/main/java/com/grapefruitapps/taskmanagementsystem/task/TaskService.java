@@ -1,57 +1,248 @@
 package com.grapefruitapps.taskmanagementsystem.task;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "tasks.service", description = "TaskService method latency", histogram = true)
 public class TaskService {
     public static final int MAX_COUNT_OF_TASKS_IN_PROGRESS = 5;
     public static final int DEFAULT_PAGE_SIZE = 10;
     public static final int DEFAULT_PAGE_NUMBER = 0;
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    private static final List<TaskPriority> CLAIM_ORDER =
+            List.of(TaskPriority.HIGH, TaskPriority.MEDIUM, TaskPriority.LOW);
 
     private static final Logger log = LoggerFactory.getLogger(TaskService.class);
     private final TaskRepository repository;
     private final TaskMapper mapper;
-
-    public TaskService(TaskRepository repository, TaskMapper mapper) {
+    private final InProgressLimiter inProgressLimiter;
+    private final TaskCache taskCache;
+    private final TaskStatsService statsService;
+    private final TaskMetrics metrics;
+    private final TaskEventLog eventLog;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int exportFetchSize;
+    private final int bulkUpdateChunkSize;
+
+    public TaskService(TaskRepository repository, TaskMapper mapper,
+                       InProgressLimiter inProgressLimiter, TaskCache taskCache,
+                       TaskStatsService statsService, TaskMetrics metrics, TaskEventLog eventLog,
+                       JsonMapper jsonMapper, PlatformTransactionManager transactionManager,
+                       @Value("${task.export.fetch-size:1000}") int exportFetchSize,
+                       @Value("${task.bulk-update.chunk-size:1000}") int bulkUpdateChunkSize) {
         this.repository = repository;
         this.mapper = mapper;
+        this.inProgressLimiter = inProgressLimiter;
+        this.taskCache = taskCache;
+        this.statsService = statsService;
+        this.metrics = metrics;
+        this.eventLog = eventLog;
+        this.jsonMapper = jsonMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.exportFetchSize = exportFetchSize;
+        this.bulkUpdateChunkSize = bulkUpdateChunkSize;
     }
 
-    public List<TaskDto> searchAllByFilter(TaskFilter filter) {
-        log.debug("Get all tasks by filter");
+    @Transactional(readOnly = true)
+    public TaskSlice searchAllByFilter(TaskFilter filter) {
+        return searchAllByFilter(filter, false);
+    }
+
+    /**
+     * @param archived search the archive of old DONE tasks instead of the active tasks
+     */
+    @Transactional(readOnly = true)
+    public TaskSlice searchAllByFilter(TaskFilter filter, boolean archived) {
+        log.debug("Get all {} tasks by filter", archived ? "archived" : "active");
         int pageSize = filter.pageSize() != null ? filter.pageSize() : DEFAULT_PAGE_SIZE;
+
+        if (filter.isKeyset()) {
+            return searchAllByFilterAfterId(filter, archived, pageSize);
+        }
+
         int pageNumber = filter.pageNumber() != null ? filter.pageNumber() : DEFAULT_PAGE_NUMBER;
-        Pageable pageable = Pageable.ofSize(pageSize).withPage(pageNumber);
+        Pageable pageable = PageRequest.of(pageNumber, pageSize, TaskSpecifications.ID_ORDER);
+
+        List<TaskDto> tasks = findDtos(filter, archived, pageable.getOffset(), pageable.getPageSize());
+        log.debug("Found {} tasks ", tasks.size());
+        metrics.searchRows(false, tasks.size());
+        return new TaskSlice(tasks, null);
+    }
+
+    private TaskSlice searchAllByFilterAfterId(TaskFilter filter, boolean archived, int pageSize) {
+        log.debug("Seek tasks after id: {}", filter.afterId());
+        List<TaskDto> tasks = findDtos(filter, archived, 0, pageSize);
+        log.debug("Found {} tasks ", tasks.size());
+        metrics.searchRows(true, tasks.size());
+        return new TaskSlice(tasks, continuationToken(tasks, pageSize));
+    }
+
+    private static String continuationToken(List<TaskDto> tasks, int pageSize) {
+        if (tasks.size() < pageSize) {
+            return null;
+        }
+        return new TaskCursor(tasks.get(tasks.size() - 1).getId()).encode();
+    }
 
-        List<TaskEntity> taskEntities = repository.searchAllByFilter(
-                filter.creatorId(),
-                filter.assignedUserId(),
-                filter.status(),
-                filter.priority(),
-                pageable
-        );
-        log.debug("Found {} tasks ", taskEntities.size());
-        return taskEntities.stream().map(mapper::toDto).toList();
+    private List<TaskDto> findDtos(TaskFilter filter, boolean archived, long offset, int limit) {
+        if (archived) {
+            return repository.findArchivedDtos(
+                    TaskSpecifications.byFilter(filter), TaskSpecifications.ID_ORDER, offset, limit);
+        }
+        return repository.findDtos(TaskSpecifications.byFilter(filter), TaskSpecifications.ID_ORDER, offset, limit);
+    }
+
+    /**
+     * Searches tasks that are not DONE and whose deadline has passed, narrowed by the filter
+     * and paged the same way as {@link #searchAllByFilter}.
+     */
+    @Transactional(readOnly = true)
+    public TaskSlice searchOverdue(TaskFilter filter) {
+        LocalDate today = LocalDate.now();
+        log.debug("Get tasks overdue on {}", today);
+        int pageSize = filter.pageSize() != null ? filter.pageSize() : DEFAULT_PAGE_SIZE;
+        long offset = 0;
+        if (!filter.isKeyset()) {
+            int pageNumber = filter.pageNumber() != null ? filter.pageNumber() : DEFAULT_PAGE_NUMBER;
+            offset = PageRequest.of(pageNumber, pageSize).getOffset();
+        }
+        List<TaskDto> tasks = repository.findDtos(
+                TaskSpecifications.<TaskEntity>byFilter(filter).and(TaskSpecifications.overdue(today)),
+                TaskSpecifications.ID_ORDER, offset, pageSize);
+        log.debug("Found {} overdue tasks", tasks.size());
+        metrics.searchRows(filter.isKeyset(), tasks.size());
+        return new TaskSlice(tasks, filter.isKeyset() ? continuationToken(tasks, pageSize) : null);
+    }
+
+    /**
+     * Tags the page {@link #searchAllByFilter} would return for the same filter, reading only
+     * ids and versions, so unchanged pages can be answered without loading or serializing tasks.
+     */
+    @Transactional(readOnly = true)
+    public TaskPageTag tagAllByFilter(TaskFilter filter, boolean archived) {
+        int pageSize = filter.pageSize() != null ? filter.pageSize() : DEFAULT_PAGE_SIZE;
+        long offset = 0;
+        if (!filter.isKeyset()) {
+            int pageNumber = filter.pageNumber() != null ? filter.pageNumber() : DEFAULT_PAGE_NUMBER;
+            offset = PageRequest.of(pageNumber, pageSize).getOffset();
+        }
+        List<TaskStamp> stamps = archived
+                ? repository.findArchivedStamps(
+                        TaskSpecifications.byFilter(filter), TaskSpecifications.ID_ORDER, offset, pageSize)
+                : repository.findStamps(
+                        TaskSpecifications.byFilter(filter), TaskSpecifications.ID_ORDER, offset, pageSize);
+        return TaskPageTag.of(stamps);
+    }
+
+    /**
+     * Tags the page like {@link #tagAllByFilter} and, unless {@code unchanged} accepts the tag, loads it
+     * like {@link #searchAllByFilter}. Both reads share one repeatable-read transaction, and so one
+     * connection and snapshot, so the tag never belongs to a different state of the page than the
+     * tasks, even when read-only transactions go to replicas.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public TaggedTaskSlice searchAllByFilterIfChanged(TaskFilter filter, boolean archived,
+                                                      Predicate<TaskPageTag> unchanged) {
+        TaskPageTag tag = tagAllByFilter(filter, archived);
+        if (unchanged.test(tag)) {
+            return new TaggedTaskSlice(tag, null);
+        }
+        return new TaggedTaskSlice(tag, searchAllByFilter(filter, archived));
+    }
+
+    @Transactional(readOnly = true)
+    public long exportAllByFilter(TaskFilter filter, TaskExportFormat format, OutputStream outputStream)
+            throws IOException {
+        log.debug("Export all tasks by filter as {}", format);
+        long count = 0;
+        try (Stream<TaskDto> tasks = repository.streamDtos(
+                TaskSpecifications.byFilter(filter),
+                TaskSpecifications.ID_ORDER,
+                exportFetchSize)) {
+            TaskExportWriter writer = switch (format) {
+                case NDJSON -> TaskExportWriter.ndjson(jsonMapper, outputStream);
+                case CSV -> TaskExportWriter.csv(outputStream);
+            };
+            Iterator<TaskDto> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                if (++count % exportFetchSize == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        }
+        log.debug("Exported {} tasks", count);
+        return count;
     }
 
     public TaskDto getTaskById(Long id) {
         log.debug("Get task by id: {}", id);
-        TaskEntity fetchedEntity = fetchEntityById(id);
+        TaskDto task = taskCache.get(id, this::loadTaskById);
         log.debug("Found task with id: {}", id);
-        return mapper.toDto(fetchedEntity);
+        return task;
     }
 
+    private TaskDto loadTaskById(Long id) {
+        return repository.findDtoById(id).or(() -> repository.findArchivedDtoById(id)).orElseThrow(
+                () -> {
+                    log.warn("Task with id {} not found in database", id);
+                    return new EntityNotFoundException("Not found task by id = " + id);
+                });
+    }
+
+    @Transactional
     public TaskDto createTask(TaskDto taskDto) {
         log.info("Create new task with id: {}", taskDto.getId());
+        TaskEntity savedEntity = repository.save(toNewEntity(taskDto));
+        TaskDto createdTask = mapper.toDto(savedEntity);
+        statsService.recordCreated(List.of(createdTask));
+        eventLog.record(TaskEventType.CREATED, createdTask);
+        log.info("Task created successfully, id: {}", savedEntity.getId());
+        return createdTask;
+    }
 
+    @Transactional
+    public List<Long> createTasks(List<TaskDto> taskDtos) {
+        log.info("Create {} new tasks", taskDtos.size());
+        List<TaskEntity> entitiesToSave = taskDtos.stream().map(this::toNewEntity).toList();
+        List<Long> ids = repository.insertAll(entitiesToSave);
+        List<TaskDto> createdTasks = entitiesToSave.stream().map(mapper::toDto).toList();
+        statsService.recordCreated(createdTasks);
+        eventLog.recordAll(TaskEventType.CREATED, createdTasks);
+        log.info("Tasks created successfully, count: {}", ids.size());
+        return ids;
+    }
+
+    private TaskEntity toNewEntity(TaskDto taskDto) {
         if (taskDto.getDeadlineDate() != null &&
                 taskDto.getDeadlineDate().isBefore(LocalDate.now())) {
             throw new IllegalArgumentException("Task deadline date must be after task creation date: "
@@ -60,120 +251,270 @@ public class TaskService {
 
         TaskEntity entityToSave = mapper.toEntity(taskDto);
         entityToSave.setStatus(TaskStatus.CREATED);
-        entityToSave.setCreateDateTime(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        entityToSave.setCreateDateTime(now);
+        entityToSave.setLastModifiedDateTime(now);
 
         if (entityToSave.getPriority() == null) {
             entityToSave.setPriority(TaskPriority.MEDIUM);
         }
-
-        TaskEntity savedEntity = repository.save(entityToSave);
-        log.info("Task created successfully, id: {}", savedEntity.getId());
-        return mapper.toDto(savedEntity);
+        return entityToSave;
     }
 
-    public TaskDto updateTask(Long id, TaskDto taskDto) {
-        log.info("Update task with id: {}", taskDto.getId());
-        TaskEntity fetchedEntity = fetchEntityById(id);
-
-        if (fetchedEntity.getStatus() == TaskStatus.DONE) {
-            throw new IllegalStateException("Cannot modify task: status = " + fetchedEntity.getStatus());
-        }
-
-        if (fetchedEntity.getStatus() == TaskStatus.IN_PROGRESS &&
-                taskDto.getAssignedUserId() == null) {
-            throw new IllegalStateException("Task with status: "
-                    + fetchedEntity.getStatus() + " must have an executor");
-        }
-
-        if (taskDto.getDeadlineDate() != null &&
-                taskDto.getDeadlineDate().isBefore(fetchedEntity.getCreateDateTime().toLocalDate())) {
+    @Transactional
+    public TaskDto updateTask(Long id, Long expectedVersion, TaskDto taskDto) {
+        log.info("Update task with id: {}", id);
+        TaskUpdateResult result = repository.update(id, expectedVersion, taskDto, LocalDateTime.now()).orElseThrow(() -> {
+            if (repository.findArchivedDtoById(id).isPresent()) {
+                return new IllegalStateException("Cannot modify archived task with id = " + id + ", resume it first");
+            }
+            log.warn("Task with id {} not found in database", id);
+            return new EntityNotFoundException("Not found task by id = " + id);
+        });
+
+        if (!result.isUpdated()) {
+            TaskDto current = result.before();
+            if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                log.warn("Task with id {} has version {}, expected {}", id, current.getVersion(), expectedVersion);
+                throw new OptimisticLockException("Task with id = " + id + " has been modified: version = "
+                        + current.getVersion() + ", expected " + expectedVersion);
+            }
+            if (current.getStatus() == TaskStatus.DONE) {
+                throw new IllegalStateException("Cannot modify task: status = " + current.getStatus());
+            }
+            if (current.getStatus() == TaskStatus.IN_PROGRESS && taskDto.getAssignedUserId() == null) {
+                throw new IllegalStateException("Task with status: "
+                        + current.getStatus() + " must have an executor");
+            }
             throw new IllegalArgumentException("Task deadline date must be after task creation date: "
-                    + fetchedEntity.getCreateDateTime().toLocalDate());
+                    + current.getCreateDateTime().toLocalDate());
         }
 
-        TaskEntity entityToUpdate = mapper.toEntity(taskDto);
-        entityToUpdate.setId(fetchedEntity.getId());
-        entityToUpdate.setStatus(fetchedEntity.getStatus());
-        entityToUpdate.setCreateDateTime(fetchedEntity.getCreateDateTime());
+        TaskDto updatedTask = result.updated();
+        statsService.recordUpdated(result.before(), updatedTask);
+        eventLog.record(TaskEventType.UPDATED, updatedTask);
+        taskCache.evict(id);
+        log.info("Task updated successfully, id: {}", id);
+        return updatedTask;
+    }
 
-        if (entityToUpdate.getPriority() == null) {
-            entityToUpdate.setPriority(fetchedEntity.getPriority());
+    /**
+     * Applies the patch to every active task matching the filter under the same rules as
+     * {@link #updateTask}, in id-ordered chunks of {@code task.bulk-update.chunk-size} tasks that
+     * each commit on their own, so locks are held only for one chunk. Paging fields of the filter
+     * are ignored.
+     */
+    public TaskBulkUpdateResult bulkUpdateTasks(TaskFilter filter, TaskPatch patch) {
+        if (filter.creatorId() == null && filter.assignedUserId() == null
+                && filter.status() == null && filter.priority() == null) {
+            throw new IllegalArgumentException("Bulk update requires at least one filter criterion");
         }
-
-        TaskEntity updatedEntity = repository.save(entityToUpdate);
-        log.info("Task updated successfully, id: {}", updatedEntity.getId());
-        return mapper.toDto(updatedEntity);
+        if (patch.isEmpty()) {
+            throw new IllegalArgumentException("Bulk update requires at least one field to change");
+        }
+        log.info("Bulk update tasks by filter: {}", patch);
+
+        long afterId = 0;
+        long matched = 0;
+        long updated = 0;
+        long skippedDone = 0;
+        long skippedDeadline = 0;
+        while (true) {
+            long fromId = afterId;
+            List<TaskUpdateResult> chunk = transactionTemplate.execute(status -> {
+                List<TaskUpdateResult> results =
+                        repository.updateChunk(filter, patch, fromId, bulkUpdateChunkSize, LocalDateTime.now());
+                List<TaskUpdateResult> updatedResults = results.stream().filter(TaskUpdateResult::isUpdated).toList();
+                List<TaskDto> updatedTasks = updatedResults.stream().map(TaskUpdateResult::updated).toList();
+                statsService.recordUpdated(updatedResults);
+                eventLog.recordAll(TaskEventType.UPDATED, updatedTasks);
+                taskCache.evict(updatedTasks.stream().map(TaskDto::getId).toList());
+                return results;
+            });
+            for (TaskUpdateResult result : chunk) {
+                TaskDto task = result.before();
+                if (result.isUpdated()) {
+                    updated++;
+                } else if (task.getStatus() == TaskStatus.DONE) {
+                    skippedDone++;
+                } else if (patch.deadlineDate() != null
+                        && patch.deadlineDate().isBefore(task.getCreateDateTime().toLocalDate())) {
+                    skippedDeadline++;
+                }
+            }
+            matched += chunk.size();
+            if (chunk.size() < bulkUpdateChunkSize) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).before().getId();
+        }
+        TaskBulkUpdateResult result = new TaskBulkUpdateResult(
+                matched, updated, matched - updated - skippedDone - skippedDeadline, skippedDone, skippedDeadline);
+        log.info("Bulk update finished: {}", result);
+        return result;
     }
 
+    /**
+     * Deletes an active task, or an archived one if no active task has the id.
+     */
+    @Transactional
     public void deleteTask(Long id) {
         log.info("Delete task with id: {}", id);
-        if (!repository.existsById(id)) {
-            log.warn("Task with id {} not found in database", id);
-            throw new EntityNotFoundException("Not found task by id = " + id);
-        }
-        repository.deleteById(id);
+        TaskDto deletedTask = repository.findForUpdateById(id)
+                .map(lockedEntity -> {
+                    if (lockedEntity.getStatus() == TaskStatus.IN_PROGRESS) {
+                        inProgressLimiter.release();
+                    }
+                    repository.delete(lockedEntity);
+                    return mapper.toDto(lockedEntity);
+                })
+                .or(() -> repository.deleteArchived(id))
+                .orElseThrow(() -> {
+                    log.warn("Task with id {} not found in database", id);
+                    return new EntityNotFoundException("Not found task by id = " + id);
+                });
+        statsService.recordDeleted(deletedTask);
+        eventLog.record(TaskEventType.DELETED, deletedTask);
+        taskCache.evict(id);
         log.info("Task deleted, id: {}", id);
     }
 
+    @Transactional
     public TaskDto startTask(Long id) {
         log.info("Start task with id: {}", id);
-        TaskEntity fetchedEntity = fetchEntityById(id);
-
-        if (fetchedEntity.getStatus() != TaskStatus.CREATED) {
-            throw new IllegalStateException("Cannot start task: status = " + fetchedEntity.getStatus());
-        }
-
-        if (fetchedEntity.getAssignedUserId() == null) {
-            throw new IllegalStateException("Task must have an executor");
-        }
-
-        if (repository.countByStatus(TaskStatus.IN_PROGRESS) > MAX_COUNT_OF_TASKS_IN_PROGRESS) {
-            throw new IllegalStateException("Count of tasks with status = " + fetchedEntity.getStatus()
-                    + " must be less than " + MAX_COUNT_OF_TASKS_IN_PROGRESS);
-        }
-
-        repository.setStatus(id, TaskStatus.IN_PROGRESS);
-        fetchedEntity.setStatus(TaskStatus.IN_PROGRESS);
+        TaskDto startedTask = transit(id, TaskTransition.START);
         log.info("Task started, id: {}", id);
-        return mapper.toDto(fetchedEntity);
+        return startedTask;
     }
 
+    @Transactional
     public TaskDto completeTask(Long id) {
         log.info("Complete task with id: {}", id);
-        TaskEntity fetchedEntity = fetchEntityById(id);
-
-        if (fetchedEntity.getStatus() != TaskStatus.IN_PROGRESS) {
-            throw new IllegalStateException("Cannot complete task: status = " + fetchedEntity.getStatus());
-        }
-
-        LocalDateTime doneDateTime = LocalDateTime.now();
-        repository.setStatusAndDoneDateTime(id, TaskStatus.DONE, doneDateTime);
-        fetchedEntity.setStatus(TaskStatus.DONE);
-        fetchedEntity.setDoneDateTime(doneDateTime);
+        TaskDto completedTask = transit(id, TaskTransition.COMPLETE);
         log.info("Task completed, id: {}", id);
-        return mapper.toDto(fetchedEntity);
+        return completedTask;
     }
 
+    @Transactional
     public TaskDto resumeTask(Long id) {
         log.info("Resume task with id: {}", id);
-        TaskEntity fetchedEntity = fetchEntityById(id);
+        TaskDto resumedTask = transit(id, TaskTransition.RESUME);
+        log.info("Task resumed, id: {}", id);
+        return resumedTask;
+    }
 
-        if (fetchedEntity.getStatus() != TaskStatus.DONE) {
-            throw new IllegalStateException("Cannot resume task: status = " + fetchedEntity.getStatus());
-        }
+    @Transactional
+    public List<TaskTransitionOutcome> startTasks(List<Long> ids) {
+        log.info("Start {} tasks", ids.size());
+        return transitAll(ids, TaskTransition.START);
+    }
 
-        repository.setStatus(id, TaskStatus.IN_PROGRESS);
-        fetchedEntity.setStatus(TaskStatus.IN_PROGRESS);
-        log.info("Task resumed, id: {}", id);
-        return mapper.toDto(fetchedEntity);
+    @Transactional
+    public List<TaskTransitionOutcome> completeTasks(List<Long> ids) {
+        log.info("Complete {} tasks", ids.size());
+        return transitAll(ids, TaskTransition.COMPLETE);
     }
 
-    private TaskEntity fetchEntityById(Long id) {
-        log.debug("Fetch task entity by id: {}", id);
-        return repository.findById(id).orElseThrow(
+    @Transactional
+    public List<TaskTransitionOutcome> resumeTasks(List<Long> ids) {
+        log.info("Resume {} tasks", ids.size());
+        return transitAll(ids, TaskTransition.RESUME);
+    }
+
+    /**
+     * Starts up to {@code count} CREATED tasks, highest priority and oldest first, within the
+     * in-progress limit. Unassigned tasks are only claimed on behalf of an {@code assignedUserId}.
+     *
+     * @return the started tasks; empty when nothing is claimable or no slot is free
+     */
+    @Transactional
+    public List<TaskDto> claimTasks(Long assignedUserId, int count) {
+        log.info("Claim {} tasks for assignedUserId: {}", count, assignedUserId);
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskUpdateResult> results = new ArrayList<>();
+        for (TaskPriority priority : CLAIM_ORDER) {
+            if (results.size() == count) {
+                break;
+            }
+            results.addAll(repository.claim(priority, assignedUserId, count - results.size(), now));
+        }
+        List<TaskDto> claimedTasks = results.stream().map(TaskUpdateResult::updated).toList();
+        statsService.recordUpdated(results);
+        eventLog.recordAll(TaskEventType.STARTED, claimedTasks);
+        taskCache.evict(claimedTasks.stream().map(TaskDto::getId).toList());
+        log.info("Tasks claimed: {}", claimedTasks.size());
+        return claimedTasks;
+    }
+
+    private TaskDto transit(Long id, TaskTransition transition) {
+        TaskTransitionResult result = repository.transit(id, transition, LocalDateTime.now()).orElseThrow(
                 () -> {
                     log.warn("Task with id {} not found in database", id);
+                    metrics.transitionRejected(transition, TaskTransitionRejection.NOT_FOUND);
                     return new EntityNotFoundException("Not found task by id = " + id);
                 });
+        if (!result.transitioned()) {
+            throw new IllegalStateException(reject(transition, result));
+        }
+        statsService.recordTransitioned(List.of(result.task()), transition.getExpectedStatus());
+        eventLog.record(TaskEventType.of(transition), result.task());
+        taskCache.evict(id);
+        return result.task();
+    }
+
+    /**
+     * @param requestedIds may repeat an id; each distinct id is transitioned and reported once
+     */
+    private List<TaskTransitionOutcome> transitAll(List<Long> requestedIds, TaskTransition transition) {
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(requestedIds));
+        Map<Long, TaskTransitionResult> results = new HashMap<>();
+        for (TaskTransitionResult result : repository.transitAll(ids, transition, LocalDateTime.now())) {
+            results.put(result.task().getId(), result);
+        }
+
+        List<TaskTransitionOutcome> outcomes = ids.stream().map(id -> {
+            TaskTransitionResult result = results.get(id);
+            if (result == null) {
+                metrics.transitionRejected(transition, TaskTransitionRejection.NOT_FOUND);
+                return TaskTransitionOutcome.failure(id, "Not found task by id = " + id, null);
+            }
+            if (!result.transitioned()) {
+                return TaskTransitionOutcome.failure(id, reject(transition, result), result.task());
+            }
+            return TaskTransitionOutcome.success(result.task());
+        }).toList();
+        List<TaskDto> transitionedTasks = outcomes.stream()
+                .filter(TaskTransitionOutcome::success)
+                .map(TaskTransitionOutcome::task)
+                .toList();
+        statsService.recordTransitioned(transitionedTasks, transition.getExpectedStatus());
+        eventLog.recordAll(TaskEventType.of(transition), transitionedTasks);
+        taskCache.evict(transitionedTasks.stream().map(TaskDto::getId).toList());
+        log.info("Tasks to {}: {}, transitioned: {}", transition.getAction(), ids.size(),
+                outcomes.stream().filter(TaskTransitionOutcome::success).count());
+        return outcomes;
+    }
+
+    private String reject(TaskTransition transition, TaskTransitionResult result) {
+        TaskDto task = result.task();
+        TaskTransitionRejection rejection;
+        String message;
+        if (task.getStatus() != transition.getExpectedStatus()) {
+            rejection = TaskTransitionRejection.WRONG_STATUS;
+            message = "Cannot " + transition.getAction() + " task: status = " + task.getStatus();
+        } else if (transition.requiresExecutor() && task.getAssignedUserId() == null) {
+            rejection = TaskTransitionRejection.NO_EXECUTOR;
+            message = "Task must have an executor";
+        } else if (transition.acquiresInProgressSlot() && !result.admitted()) {
+            rejection = TaskTransitionRejection.IN_PROGRESS_LIMIT;
+            message = "Count of tasks with status = " + TaskStatus.IN_PROGRESS
+                    + " must not exceed " + MAX_COUNT_OF_TASKS_IN_PROGRESS;
+        } else {
+            log.warn("Task with id {} was modified concurrently", task.getId());
+            rejection = TaskTransitionRejection.CONCURRENT_MODIFICATION;
+            message = "Task with id = " + task.getId() + " was modified concurrently";
+        }
+        metrics.transitionRejected(transition, rejection);
+        return message;
     }
 }
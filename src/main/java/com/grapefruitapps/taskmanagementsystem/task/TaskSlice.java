@@ -0,0 +1,13 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.util.List;
+
+/**
+ * Page of tasks with the continuation token for the next keyset page,
+ * or {@code null} when there are no more tasks or offset pagination was used.
+ */
+public record TaskSlice(
+        List<TaskDto> tasks,
+        String continuationToken
+) {
+}
@@ -0,0 +1,58 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds task search queries from the non-null fields of a {@link TaskFilter} only,
+ * so every filter combination gets its own plan that can use the composite indexes on {@code tasks}.
+ * The same specifications apply to {@link TaskArchiveEntity}, which has the same attributes.
+ */
+public final class TaskSpecifications {
+    public static final Sort ID_ORDER = Sort.by(Sort.Direction.ASC, "id");
+
+    private TaskSpecifications() {
+    }
+
+    public static <T> Specification<T> byFilter(TaskFilter filter) {
+        List<Specification<T>> specifications = new ArrayList<>();
+        if (filter.creatorId() != null) {
+            specifications.add(equalTo("creatorId", filter.creatorId()));
+        }
+        if (filter.assignedUserId() != null) {
+            specifications.add(equalTo("assignedUserId", filter.assignedUserId()));
+        }
+        if (filter.status() != null) {
+            specifications.add(equalTo("status", filter.status()));
+        }
+        if (filter.priority() != null) {
+            specifications.add(equalTo("priority", filter.priority()));
+        }
+        if (filter.afterId() != null) {
+            specifications.add(idGreaterThan(filter.afterId()));
+        }
+        return Specification.allOf(specifications);
+    }
+
+    /**
+     * Tasks that are not DONE and whose deadline is before {@code today}; served by the
+     * {@code (status, deadline_date)} index.
+     */
+    public static <T> Specification<T> overdue(LocalDate today) {
+        return (root, query, cb) -> cb.and(
+                root.get("status").in(TaskStatus.CREATED, TaskStatus.IN_PROGRESS),
+                cb.lessThan(root.get("deadlineDate"), today));
+    }
+
+    public static <T> Specification<T> idGreaterThan(Long afterId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+
+    private static <T> Specification<T> equalTo(String attribute, Object value) {
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+}
@@ -0,0 +1,7 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+/**
+ * Identity and version of a task, enough to tell whether a page of tasks changed.
+ */
+public record TaskStamp(Long id, Long version) {
+}
@@ -0,0 +1,13 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.util.Map;
+
+public record TaskStatsDto(
+        Map<TaskStatus, Map<TaskPriority, Long>> byStatusAndPriority,
+        Long assignedUserId,
+        Map<TaskStatus, Long> byAssignedUser,
+        Long creatorId,
+        Map<TaskStatus, Long> byCreator,
+        long overdue
+) {
+}
@@ -0,0 +1,50 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Names of the {@code task_counters} rows that hold task statistics.
+ */
+final class TaskStatsKeys {
+    static final String STATUS_PRIORITY = "status_priority:";
+    static final String ASSIGNEE = "assignee:";
+    static final String CREATOR = "creator:";
+    static final String OPEN_DEADLINE = "open_deadline:";
+
+    private TaskStatsKeys() {
+    }
+
+    static String statusPriority(TaskStatus status, TaskPriority priority) {
+        return STATUS_PRIORITY + status + ":" + priority;
+    }
+
+    static String assignee(Long assignedUserId, TaskStatus status) {
+        return ASSIGNEE + assignedUserId + ":" + status;
+    }
+
+    static String creator(Long creatorId, TaskStatus status) {
+        return CREATOR + creatorId + ":" + status;
+    }
+
+    /**
+     * ISO dates sort lexicographically, so overdue counters form a primary key range.
+     */
+    static String openDeadline(LocalDate deadlineDate) {
+        return OPEN_DEADLINE + deadlineDate;
+    }
+
+    static List<String> of(TaskDto task) {
+        List<String> keys = new ArrayList<>(4);
+        keys.add(statusPriority(task.getStatus(), task.getPriority()));
+        keys.add(creator(task.getCreatorId(), task.getStatus()));
+        if (task.getAssignedUserId() != null) {
+            keys.add(assignee(task.getAssignedUserId(), task.getStatus()));
+        }
+        if (task.getDeadlineDate() != null && task.getStatus() != TaskStatus.DONE) {
+            keys.add(openDeadline(task.getDeadlineDate()));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,181 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Task statistics kept in {@code task_counters} rows that {@link TaskService} adjusts in the same
+ * transaction as every mutation, so reads are primary key lookups instead of table scans.
+ * A periodic job recomputes them from {@code tasks} and adds the difference to repair any drift.
+ */
+@Service
+public class TaskStatsService {
+    private static final Logger log = LoggerFactory.getLogger(TaskStatsService.class);
+    private final TaskCounterRepository counterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int reconcileChunkSize;
+
+    public TaskStatsService(TaskCounterRepository counterRepository, PlatformTransactionManager transactionManager,
+                            @Value("${task.stats.reconcile-chunk-size:500}") int reconcileChunkSize) {
+        this.counterRepository = counterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconcileChunkSize = reconcileChunkSize;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskStatsDto getStats(Long assignedUserId, Long creatorId) {
+        log.debug("Get task stats: assignedUserId={}, creatorId={}", assignedUserId, creatorId);
+        List<String> names = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            for (TaskPriority priority : TaskPriority.values()) {
+                names.add(TaskStatsKeys.statusPriority(status, priority));
+            }
+            if (assignedUserId != null) {
+                names.add(TaskStatsKeys.assignee(assignedUserId, status));
+            }
+            if (creatorId != null) {
+                names.add(TaskStatsKeys.creator(creatorId, status));
+            }
+        }
+        Map<String, Long> counters = counterRepository.findAllById(names).stream()
+                .collect(Collectors.toMap(TaskCounterEntity::getName, TaskCounterEntity::getValue));
+
+        Map<TaskStatus, Map<TaskPriority, Long>> byStatusAndPriority = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatusAndPriority.put(status, byEnum(TaskPriority.class, priority ->
+                    counters.getOrDefault(TaskStatsKeys.statusPriority(status, priority), 0L)));
+        }
+        Map<TaskStatus, Long> byAssignedUser = assignedUserId == null ? null : byEnum(TaskStatus.class,
+                status -> counters.getOrDefault(TaskStatsKeys.assignee(assignedUserId, status), 0L));
+        Map<TaskStatus, Long> byCreator = creatorId == null ? null : byEnum(TaskStatus.class,
+                status -> counters.getOrDefault(TaskStatsKeys.creator(creatorId, status), 0L));
+
+        long overdue = counterRepository.sumByNameRange(
+                TaskStatsKeys.OPEN_DEADLINE,
+                TaskStatsKeys.openDeadline(LocalDate.now()));
+
+        return new TaskStatsDto(byStatusAndPriority, assignedUserId, byAssignedUser, creatorId, byCreator, overdue);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<TaskDto> tasks) {
+        SortedMap<String, Long> deltas = new TreeMap<>();
+        tasks.forEach(task -> add(deltas, task, 1));
+        apply(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(TaskDto task) {
+        SortedMap<String, Long> deltas = new TreeMap<>();
+        add(deltas, task, -1);
+        apply(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(TaskDto before, TaskDto after) {
+        SortedMap<String, Long> deltas = new TreeMap<>();
+        add(deltas, before, -1);
+        add(deltas, after, 1);
+        apply(deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Collection<TaskUpdateResult> results) {
+        SortedMap<String, Long> deltas = new TreeMap<>();
+        for (TaskUpdateResult result : results) {
+            add(deltas, result.before(), -1);
+            add(deltas, result.updated(), 1);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * @param tasks tasks as they are after the transition from {@code previousStatus}
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitioned(Collection<TaskDto> tasks, TaskStatus previousStatus) {
+        SortedMap<String, Long> deltas = new TreeMap<>();
+        for (TaskDto task : tasks) {
+            add(deltas, withStatus(task, previousStatus), -1);
+            add(deltas, task, 1);
+        }
+        apply(deltas);
+    }
+
+    @Scheduled(
+            initialDelayString = "${task.stats.reconcile-interval:PT10M}",
+            fixedDelayString = "${task.stats.reconcile-interval:PT10M}")
+    public void reconcile() {
+        SortedMap<String, Long> corrections = counterRepository.findStatsCorrections();
+        SortedMap<String, Long> chunk = new TreeMap<>();
+        for (Map.Entry<String, Long> correction : corrections.entrySet()) {
+            chunk.put(correction.getKey(), correction.getValue());
+            if (chunk.size() == reconcileChunkSize) {
+                applyCorrections(chunk);
+                chunk = new TreeMap<>();
+            }
+        }
+        applyCorrections(chunk);
+        log.info("Task stats reconciled, corrected counters: {}", corrections.size());
+    }
+
+    /**
+     * Corrections are added like any other delta, so mutations committed after they were computed
+     * are kept, and each chunk locks only its own counters, in key order, for one short statement.
+     */
+    private void applyCorrections(SortedMap<String, Long> corrections) {
+        if (!corrections.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> counterRepository.addAll(corrections));
+        }
+    }
+
+    private static void add(SortedMap<String, Long> deltas, TaskDto task, long delta) {
+        for (String key : TaskStatsKeys.of(task)) {
+            deltas.merge(key, delta, Long::sum);
+        }
+    }
+
+    private void apply(SortedMap<String, Long> deltas) {
+        deltas.values().removeIf(value -> value == 0);
+        counterRepository.addAll(deltas);
+    }
+
+    private static TaskDto withStatus(TaskDto task, TaskStatus status) {
+        return new TaskDto(
+                task.getId(),
+                task.getCreatorId(),
+                task.getAssignedUserId(),
+                status,
+                task.getCreateDateTime(),
+                task.getDeadlineDate(),
+                task.getDoneDateTime(),
+                task.getPriority()
+        );
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> byEnum(Class<E> type, Function<E, Long> value) {
+        Map<E, Long> values = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            values.put(constant, value.apply(constant));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,55 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+/**
+ * Lifecycle transitions of a task and the rules each of them enforces.
+ */
+public enum TaskTransition {
+    START("start", TaskStatus.CREATED, TaskStatus.IN_PROGRESS),
+    COMPLETE("complete", TaskStatus.IN_PROGRESS, TaskStatus.DONE),
+    RESUME("resume", TaskStatus.DONE, TaskStatus.IN_PROGRESS);
+
+    private final String action;
+    private final TaskStatus expectedStatus;
+    private final TaskStatus targetStatus;
+
+    TaskTransition(String action, TaskStatus expectedStatus, TaskStatus targetStatus) {
+        this.action = action;
+        this.expectedStatus = expectedStatus;
+        this.targetStatus = targetStatus;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public TaskStatus getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public TaskStatus getTargetStatus() {
+        return targetStatus;
+    }
+
+    public boolean requiresExecutor() {
+        return this == START;
+    }
+
+    public boolean setsDoneDateTime() {
+        return targetStatus == TaskStatus.DONE;
+    }
+
+    public boolean acquiresInProgressSlot() {
+        return targetStatus == TaskStatus.IN_PROGRESS;
+    }
+
+    public boolean releasesInProgressSlot() {
+        return expectedStatus == TaskStatus.IN_PROGRESS;
+    }
+
+    /**
+     * DONE tasks may have been moved to the archive and are restored by the transition.
+     */
+    public boolean restoresArchived() {
+        return expectedStatus == TaskStatus.DONE;
+    }
+}
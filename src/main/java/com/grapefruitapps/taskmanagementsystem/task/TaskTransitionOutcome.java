@@ -0,0 +1,19 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+/**
+ * Per-task result of a bulk lifecycle operation.
+ */
+public record TaskTransitionOutcome(
+        Long id,
+        boolean success,
+        String message,
+        TaskDto task
+) {
+    public static TaskTransitionOutcome success(TaskDto task) {
+        return new TaskTransitionOutcome(task.getId(), true, null, task);
+    }
+
+    public static TaskTransitionOutcome failure(Long id, String message, TaskDto task) {
+        return new TaskTransitionOutcome(id, false, message, task);
+    }
+}
@@ -0,0 +1,18 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.util.Locale;
+
+/**
+ * Why a lifecycle transition was not applied to a task.
+ */
+public enum TaskTransitionRejection {
+    NOT_FOUND,
+    WRONG_STATUS,
+    NO_EXECUTOR,
+    IN_PROGRESS_LIMIT,
+    CONCURRENT_MODIFICATION;
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,26 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single-statement compare-and-set status transitions.
+ */
+public interface TaskTransitionRepository {
+    /**
+     * Applies the transition to every given task that is in the expected state, maintaining
+     * the in-progress counter in the same statement.
+     *
+     * @return one result per existing task; ids of missing tasks are absent
+     */
+    List<TaskTransitionResult> transitAll(Collection<Long> ids, TaskTransition transition, LocalDateTime now);
+
+    /**
+     * @return empty if the task does not exist
+     */
+    default Optional<TaskTransitionResult> transit(Long id, TaskTransition transition, LocalDateTime now) {
+        return transitAll(List.of(id), transition, now).stream().findFirst();
+    }
+}
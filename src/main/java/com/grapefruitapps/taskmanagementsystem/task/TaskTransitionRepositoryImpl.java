@@ -0,0 +1,185 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+class TaskTransitionRepositoryImpl implements TaskTransitionRepository {
+    private final Map<TaskTransition, String> statements = new EnumMap<>(TaskTransition.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    TaskTransitionRepositoryImpl() {
+        for (TaskTransition transition : TaskTransition.values()) {
+            statements.put(transition, buildStatement(transition));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskTransitionResult> transitAll(Collection<Long> ids, TaskTransition transition, LocalDateTime now) {
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(statements.get(transition))
+                .unwrap(NativeQuery.class);
+        query.setParameter("ids", ids.toArray(Long[]::new))
+                .setParameter("expectedStatus", transition.getExpectedStatus().name())
+                .setParameter("status", transition.getTargetStatus().name())
+                .setParameter("now", now);
+        if (transition.acquiresInProgressSlot() || transition.releasesInProgressSlot()) {
+            query.setParameter("counter", InProgressLimiter.IN_PROGRESS_COUNTER);
+        }
+        if (transition.acquiresInProgressSlot()) {
+            query.setParameter("max", TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS);
+        }
+        TaskRows.addScalars(query)
+                .addScalar("transitioned", Boolean.class)
+                .addScalar("admitted", Boolean.class);
+
+        return query.getResultList().stream()
+                .map(row -> new TaskTransitionResult(TaskRows.toDto(row),
+                        (Boolean) row[TaskRows.COLUMN_COUNT], (Boolean) row[TaskRows.COLUMN_COUNT + 1]))
+                .toList();
+    }
+
+    /*
+     * All CTEs run against the same snapshot, so tasks that were not updated are returned
+     * as their current rows and the caller can tell "wrong state" from "not found" (no row).
+     * Eligible rows are locked in id order before the counter row, giving every transition
+     * the same lock order. Admission takes as many eligible tasks as there are free slots;
+     * a caller that rejects the outcome rolls the whole statement back. A transition that
+     * restores archived tasks moves only the admitted ones back into tasks, already transitioned;
+     * rejected ones stay in the archive. The ids are bound as an array, so the statement text
+     * and its parameter count do not depend on the number of ids.
+     */
+    private static String buildStatement(TaskTransition transition) {
+        boolean archive = transition.restoresArchived();
+        StringBuilder sql = new StringBuilder("""
+                with requested as (
+                    select id from tasks where id = any(cast(:ids as bigint[]))%s
+                ),
+                candidates as (
+                    select id from tasks
+                    where id in (select id from requested) and status = :expectedStatus%s
+                    order by id
+                    for update
+                ),
+                """.formatted(
+                archive ? " union all select id from tasks_archive where id = any(cast(:ids as bigint[]))" : "",
+                transition.requiresExecutor() ? " and assigned_user_id is not null" : ""));
+
+        if (archive) {
+            sql.append("""
+                    archived_candidates as (
+                        select id from tasks_archive
+                        where id = any(cast(:ids as bigint[])) and status = :expectedStatus
+                        order by id
+                        for update
+                    ),
+                    eligible as (
+                        select id from candidates
+                        union all
+                        select id from archived_candidates
+                    ),
+                    """);
+        } else {
+            sql.append("""
+                    eligible as (
+                        select id from candidates
+                    ),
+                    """);
+        }
+
+        if (transition.acquiresInProgressSlot()) {
+            sql.append("""
+                    slot as (
+                        select greatest(:max - current_value, 0) as free from task_counters
+                        where name = :counter and (select count(*) from eligible) > 0
+                        for update
+                    ),
+                    admitted as (
+                        select id from eligible
+                        order by id
+                        limit (select coalesce((select free from slot), 0))
+                    ),
+                    """);
+        } else {
+            sql.append("""
+                    admitted as (
+                        select id from eligible
+                    ),
+                    """);
+        }
+
+        sql.append("""
+                updated as (
+                    update tasks set status = :status, last_modified_date_time = :now, version = version + 1%s
+                    where id in (select id from admitted) and status = :expectedStatus
+                    returning *
+                )""".formatted(transition.setsDoneDateTime() ? ", done_date_time = :now" : ""));
+
+        String transitioned = "updated";
+        if (archive) {
+            sql.append("""
+                    ,
+                    restored as (
+                        delete from tasks_archive
+                        where id in (select id from admitted) and status = :expectedStatus
+                        returning *
+                    ),
+                    inserted as (
+                        insert into tasks (%s)
+                        select id, creator_id, assigned_user_id, :status, create_date_time, deadline_date, %s,
+                               priority, :now, version + 1
+                        from restored
+                        returning *
+                    ),
+                    transitioned as (
+                        select * from updated
+                        union all
+                        select * from inserted
+                    )""".formatted(TaskRows.COLUMNS,
+                    transition.setsDoneDateTime() ? ":now" : "done_date_time"));
+            transitioned = "transitioned";
+        }
+
+        if (transition.acquiresInProgressSlot()) {
+            sql.append("""
+                    ,
+                    counted as (
+                        update task_counters
+                        set current_value = current_value + (select count(*) from %1$s)
+                        where name = :counter and exists (select 1 from %1$s)
+                    )""".formatted(transitioned));
+        } else if (transition.releasesInProgressSlot()) {
+            sql.append("""
+                    ,
+                    counted as (
+                        update task_counters
+                        set current_value = greatest(current_value - (select count(*) from %1$s), 0)
+                        where name = :counter and exists (select 1 from %1$s)
+                    )""".formatted(transitioned));
+        }
+
+        sql.append("""
+
+                select %1$s, true as transitioned, true as admitted from %2$s
+                union all
+                select %1$s, false as transitioned, id in (select id from admitted) as admitted from tasks
+                where id in (select id from requested) and id not in (select id from updated)
+                """.formatted(TaskRows.COLUMNS, transitioned));
+        if (archive) {
+            sql.append("""
+                    union all
+                    select %1$s, false as transitioned, id in (select id from admitted) as admitted from tasks_archive
+                    where id = any(cast(:ids as bigint[])) and id not in (select id from restored)
+                    """.formatted(TaskRows.COLUMNS));
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,13 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+/**
+ * Outcome of a conditional status update for one task: the task as it is after the statement
+ * (the updated row, or the unchanged current row when the transition was rejected)
+ * and whether it was admitted under the in-progress cap.
+ */
+public record TaskTransitionResult(
+        TaskDto task,
+        boolean transitioned,
+        boolean admitted
+) {
+}
@@ -0,0 +1,18 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Single-statement conditional updates of task details.
+ */
+public interface TaskUpdateRepository {
+    /**
+     * Overwrites the editable fields of the task if it still has the expected version and the
+     * business rules hold for its current state, incrementing the version.
+     *
+     * @param expectedVersion version the client last saw, or {@code null} to skip the version check
+     * @return empty if the task does not exist
+     */
+    Optional<TaskUpdateResult> update(Long id, Long expectedVersion, TaskDto changes, LocalDateTime now);
+}
@@ -0,0 +1,83 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+class TaskUpdateRepositoryImpl implements TaskUpdateRepository {
+    /*
+     * The current row is locked and returned alongside the updated one, so a rejected update
+     * can be explained without another round trip. The rules mirror the checks TaskService
+     * used to run against a pre-read entity: DONE tasks are immutable, IN_PROGRESS tasks keep
+     * an executor and the deadline may not precede the creation date. Moving the deadline
+     * lets the overdue detector report the task again.
+     */
+    private static final String UPDATE = """
+            with current_task as (
+                select %1$s from tasks where id = :id for update
+            ),
+            updated as (
+                update tasks set
+                    creator_id = :creatorId,
+                    assigned_user_id = :assignedUserId,
+                    deadline_date = :deadlineDate,
+                    overdue_date_time = case when deadline_date is distinct from cast(:deadlineDate as date)
+                        then null else overdue_date_time end,
+                    done_date_time = :doneDateTime,
+                    priority = coalesce(:priority, priority),
+                    last_modified_date_time = :now,
+                    version = version + 1
+                where id = (select id from current_task)%2$s
+                    and status <> 'DONE'
+                    and (status <> 'IN_PROGRESS' or cast(:assignedUserId as bigint) is not null)
+                    and (cast(:deadlineDate as date) is null or :deadlineDate >= cast(create_date_time as date))
+                returning %1$s
+            )
+            select %1$s, false as updated from current_task
+            union all
+            select %1$s, true as updated from updated
+            """;
+
+    private static final String UPDATE_ANY_VERSION = UPDATE.formatted(TaskRows.COLUMNS, "");
+    private static final String UPDATE_EXPECTED_VERSION =
+            UPDATE.formatted(TaskRows.COLUMNS, " and version = :version");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<TaskUpdateResult> update(Long id, Long expectedVersion, TaskDto changes, LocalDateTime now) {
+        String sql = expectedVersion == null ? UPDATE_ANY_VERSION : UPDATE_EXPECTED_VERSION;
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        query.setParameter("id", id)
+                .setParameter("now", now)
+                .setParameter("creatorId", changes.getCreatorId(), Long.class)
+                .setParameter("assignedUserId", changes.getAssignedUserId(), Long.class)
+                .setParameter("deadlineDate", changes.getDeadlineDate(), LocalDate.class)
+                .setParameter("doneDateTime", changes.getDoneDateTime(), LocalDateTime.class)
+                .setParameter("priority",
+                        changes.getPriority() == null ? null : changes.getPriority().name(), String.class);
+        if (expectedVersion != null) {
+            query.setParameter("version", expectedVersion);
+        }
+        TaskRows.addScalars(query).addScalar("updated", Boolean.class);
+
+        List<Object[]> rows = query.getResultList();
+        TaskDto before = null;
+        TaskDto updated = null;
+        for (Object[] row : rows) {
+            if ((Boolean) row[TaskRows.COLUMN_COUNT]) {
+                updated = TaskRows.toDto(row);
+            } else {
+                before = TaskRows.toDto(row);
+            }
+        }
+        return before == null ? Optional.empty() : Optional.of(new TaskUpdateResult(before, updated));
+    }
+}
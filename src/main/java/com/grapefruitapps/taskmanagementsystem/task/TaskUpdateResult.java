@@ -0,0 +1,13 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+/**
+ * Outcome of a conditional task update.
+ *
+ * @param before  the task as it was when the update was evaluated
+ * @param updated the task after the update, or {@code null} if the update was rejected
+ */
+public record TaskUpdateResult(TaskDto before, TaskDto updated) {
+    public boolean isUpdated() {
+        return updated != null;
+    }
+}
@@ -0,0 +1,32 @@
+-- Archive of DONE tasks, range-partitioned by done month. Monthly partitions are created by
+-- TaskArchiver before it moves tasks into them.
+create table if not exists tasks_archive (
+    id bigint not null,
+    creator_id bigint not null,
+    assigned_user_id bigint,
+    status varchar(255) not null,
+    create_date_time timestamp(6) not null,
+    deadline_date date,
+    done_date_time timestamp(6) not null,
+    priority varchar(255) not null,
+    last_modified_date_time timestamp(6) not null,
+    version bigint not null,
+    archived_date_time timestamp(6) not null,
+    primary key (id, done_date_time)
+) partition by range (done_date_time);
+
+create index if not exists idx_tasks_archive_assigned_user_id_status on tasks_archive (assigned_user_id, status);
+create index if not exists idx_tasks_archive_creator_id_status on tasks_archive (creator_id, status);
+
+-- Task ids come from the pooled tasks_seq (allocation size 50, see TaskEntity). Databases created while
+-- tasks.id was an identity column already hold ids the new sequence would hand out again, so the sequence
+-- is moved past the highest id on every start. It only ever moves forward, which keeps blocks already
+-- allocated by running instances valid. tasks is read through query_to_xml because the table does not
+-- exist yet on a fresh database, where Hibernate creates it after this script.
+create sequence if not exists tasks_seq start with 1 increment by 50;
+
+select setval('tasks_seq', greatest(last_value,
+        (xpath('/row/max_id/text()',
+                query_to_xml('select coalesce(max(id), 0) as max_id from tasks', false, true, '')))[1]::text::bigint))
+from tasks_seq
+where to_regclass('tasks') is not null;
@@ -0,0 +1,129 @@
+package com.grapefruitapps.taskmanagementsystem.reactive;
+
+import com.grapefruitapps.taskmanagementsystem.task.TaskController;
+import com.grapefruitapps.taskmanagementsystem.task.TaskCursor;
+import com.grapefruitapps.taskmanagementsystem.task.TaskDto;
+import com.grapefruitapps.taskmanagementsystem.task.TaskETag;
+import com.grapefruitapps.taskmanagementsystem.task.TaskFilter;
+import com.grapefruitapps.taskmanagementsystem.task.TaskPriority;
+import com.grapefruitapps.taskmanagementsystem.task.TaskService;
+import com.grapefruitapps.taskmanagementsystem.task.TaskStatus;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Non-blocking versions of the read endpoints of {@link TaskController}, with the same parameters,
+ * pagination and error responses. Reads go straight to the database: the task cache and the
+ * {@code ETag}/{@code If-None-Match} handling of {@code GET /tasks} live in the main application.
+ */
+@RestController
+@RequestMapping("/tasks")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskController {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveTaskController.class);
+    private final ReactiveTaskRepository repository;
+    private final int streamFetchSize;
+
+    public ReactiveTaskController(
+            ReactiveTaskRepository repository,
+            @Value("${task.reactive.stream.fetch-size:500}") int streamFetchSize
+    ) {
+        this.repository = repository;
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    @GetMapping()
+    public Mono<ResponseEntity<List<TaskDto>>> getAllTasks(
+            @RequestParam(name = "creatorId", required = false) Long creatorId,
+            @RequestParam(name = "assignedUserId", required = false) Long assignedUserId,
+            @RequestParam(name = "status", required = false) TaskStatus status,
+            @RequestParam(name = "priority", required = false) TaskPriority priority,
+            @RequestParam(name = "pageSize", required = false) Integer pageSize,
+            @RequestParam(name = "pageNumber", required = false) Integer pageNumber,
+            @RequestParam(name = "afterId", required = false) Long afterId,
+            @RequestParam(name = "continuationToken", required = false) String continuationToken,
+            @RequestParam(name = "archived", defaultValue = "false") boolean archived
+    ) {
+        TaskFilter filter = new TaskFilter(
+                creatorId,
+                assignedUserId,
+                status,
+                priority,
+                pageSize,
+                pageNumber,
+                TaskCursor.resolveAfterId(afterId, continuationToken, pageNumber)
+        );
+        log.info("Called getAllTasks: archived={}", archived);
+        int size = filter.pageSize() != null ? filter.pageSize() : TaskService.DEFAULT_PAGE_SIZE;
+        int number = filter.pageNumber() != null ? filter.pageNumber() : TaskService.DEFAULT_PAGE_NUMBER;
+        long offset = filter.isKeyset() ? 0 : (long) number * size;
+
+        return repository.findDtos(filter, archived, offset, size)
+                .collectList()
+                .map(tasks -> {
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+                    if (filter.isKeyset() && tasks.size() == size) {
+                        response.header(TaskController.CONTINUATION_TOKEN_HEADER,
+                                new TaskCursor(tasks.get(tasks.size() - 1).getId()).encode());
+                    }
+                    return response.body(tasks);
+                });
+    }
+
+    /**
+     * Streams all tasks matching the filter as NDJSON, in id order. Rows are read from the database
+     * only as fast as the client consumes the response.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskDto> streamTasks(
+            @RequestParam(name = "creatorId", required = false) Long creatorId,
+            @RequestParam(name = "assignedUserId", required = false) Long assignedUserId,
+            @RequestParam(name = "status", required = false) TaskStatus status,
+            @RequestParam(name = "priority", required = false) TaskPriority priority,
+            @RequestParam(name = "afterId", required = false) Long afterId,
+            @RequestParam(name = "archived", defaultValue = "false") boolean archived
+    ) {
+        TaskFilter filter = new TaskFilter(
+                creatorId,
+                assignedUserId,
+                status,
+                priority,
+                null,
+                null,
+                afterId
+        );
+        log.info("Called streamTasks: archived={}", archived);
+        return repository.streamDtos(filter, archived, streamFetchSize);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskDto>> getTaskById(
+            @PathVariable Long id
+    ) {
+        log.info("Called getTaskById: id={}", id);
+        return repository.findDtoById(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("Task with id {} not found in database", id);
+                    return new EntityNotFoundException("Not found task by id = " + id);
+                }))
+                .map(task -> ResponseEntity.ok()
+                        .eTag(TaskETag.of(task).value())
+                        .lastModified(task.getLastModifiedDateTime().atZone(ZoneId.systemDefault()))
+                        .body(task));
+    }
+}
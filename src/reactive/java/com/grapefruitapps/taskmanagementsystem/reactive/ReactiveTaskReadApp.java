@@ -0,0 +1,73 @@
+package com.grapefruitapps.taskmanagementsystem.reactive;
+
+import com.grapefruitapps.taskmanagementsystem.exception.GlobalExceptionHandler;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Read-only task service on WebFlux and R2DBC, built and started with the {@code reactive} Maven profile.
+ * <p>
+ * Connections come from {@code task.reactive.r2dbc.url}, which defaults to {@code spring.datasource.url}
+ * with its {@code jdbc:} prefix replaced by {@code r2dbc:}; the credentials default to the JDBC ones.
+ * No JDBC data source, JPA or scheduled jobs are started. Everything in this package is conditional on
+ * a reactive web application, so the servlet {@link com.grapefruitapps.taskmanagementsystem.App} skips it
+ * when both are on the classpath.
+ */
+@SpringBootApplication(exclude = DataSourceAutoConfiguration.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Import(GlobalExceptionHandler.class)
+public class ReactiveTaskReadApp {
+    private static final String JDBC_PREFIX = "jdbc:";
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveTaskReadApp.class);
+        application.setWebApplicationType(WebApplicationType.REACTIVE);
+        application.setDefaultProperties(Map.of("server.port", "8081"));
+        application.run(args);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(
+            @Value("${task.reactive.r2dbc.url:}") String url,
+            @Value("${spring.datasource.url:}") String jdbcUrl,
+            @Value("${task.reactive.r2dbc.username:${spring.datasource.username:}}") String username,
+            @Value("${task.reactive.r2dbc.password:${spring.datasource.password:}}") String password,
+            @Value("${task.reactive.r2dbc.pool.max-size:20}") int maxSize,
+            @Value("${task.reactive.r2dbc.pool.acquire-timeout:30s}") Duration acquireTimeout
+    ) {
+        if (url.isBlank()) {
+            if (!jdbcUrl.startsWith(JDBC_PREFIX)) {
+                throw new IllegalStateException("Set task.reactive.r2dbc.url, spring.datasource.url is not a JDBC url");
+            }
+            url = "r2dbc:" + jdbcUrl.substring(JDBC_PREFIX.length());
+        }
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive-tasks")
+                .maxSize(maxSize)
+                .maxAcquireTime(acquireTimeout)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionPool connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+}
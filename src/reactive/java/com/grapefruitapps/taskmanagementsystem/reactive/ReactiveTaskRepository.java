@@ -0,0 +1,126 @@
+package com.grapefruitapps.taskmanagementsystem.reactive;
+
+import com.grapefruitapps.taskmanagementsystem.task.TaskDto;
+import com.grapefruitapps.taskmanagementsystem.task.TaskFilter;
+import com.grapefruitapps.taskmanagementsystem.task.TaskPriority;
+import com.grapefruitapps.taskmanagementsystem.task.TaskStatus;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * R2DBC counterpart of the task search in {@code TaskQueryRepositoryImpl}: the where clause holds only
+ * the non-null fields of a {@link TaskFilter}, like {@code TaskSpecifications.byFilter}, so the same
+ * composite indexes serve both stacks.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTaskRepository {
+    private static final String COLUMNS = """
+            id, creator_id, assigned_user_id, status, create_date_time, deadline_date, done_date_time, priority, \
+            last_modified_date_time, version""";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveTaskRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * @param archived search {@code tasks_archive} instead of {@code tasks}
+     */
+    public Flux<TaskDto> findDtos(TaskFilter filter, boolean archived, long offset, int limit) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String sql = select(filter, archived, parameters) + " order by id limit :limit offset :offset";
+        parameters.put("limit", limit);
+        parameters.put("offset", offset);
+        return bind(databaseClient.sql(sql), parameters)
+                .map(ReactiveTaskRepository::toDto)
+                .all();
+    }
+
+    /**
+     * Looks the task up among the active tasks first and then in the archive.
+     */
+    public Mono<TaskDto> findDtoById(Long id) {
+        String sql = "(select " + COLUMNS + " from tasks where id = :id)"
+                + " union all (select " + COLUMNS + " from tasks_archive where id = :id) limit 1";
+        return databaseClient.sql(sql)
+                .bind("id", id)
+                .map(ReactiveTaskRepository::toDto)
+                .one();
+    }
+
+    /**
+     * Streams every matching task in id order over a server-side cursor. Rows are fetched
+     * {@code fetchSize} at a time and only as fast as the subscriber requests them, so a slow
+     * client holds one pooled connection but never buffers the result in memory.
+     */
+    public Flux<TaskDto> streamDtos(TaskFilter filter, boolean archived, int fetchSize) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String sql = select(filter, archived, parameters) + " order by id";
+        return bind(databaseClient.sql(sql), parameters)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveTaskRepository::toDto)
+                .all();
+    }
+
+    private static String select(TaskFilter filter, boolean archived, Map<String, Object> parameters) {
+        List<String> predicates = new ArrayList<>();
+        if (filter.creatorId() != null) {
+            predicates.add("creator_id = :creatorId");
+            parameters.put("creatorId", filter.creatorId());
+        }
+        if (filter.assignedUserId() != null) {
+            predicates.add("assigned_user_id = :assignedUserId");
+            parameters.put("assignedUserId", filter.assignedUserId());
+        }
+        if (filter.status() != null) {
+            predicates.add("status = :status");
+            parameters.put("status", filter.status().name());
+        }
+        if (filter.priority() != null) {
+            predicates.add("priority = :priority");
+            parameters.put("priority", filter.priority().name());
+        }
+        if (filter.afterId() != null) {
+            predicates.add("id > :afterId");
+            parameters.put("afterId", filter.afterId());
+        }
+        String sql = "select " + COLUMNS + " from " + (archived ? "tasks_archive" : "tasks");
+        return predicates.isEmpty() ? sql : sql + " where " + String.join(" and ", predicates);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec,
+                                                          Map<String, Object> parameters) {
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec;
+    }
+
+    private static TaskDto toDto(Readable row) {
+        return new TaskDto(
+                row.get("id", Long.class),
+                row.get("creator_id", Long.class),
+                row.get("assigned_user_id", Long.class),
+                TaskStatus.valueOf(row.get("status", String.class)),
+                row.get("create_date_time", LocalDateTime.class),
+                row.get("deadline_date", LocalDate.class),
+                row.get("done_date_time", LocalDateTime.class),
+                TaskPriority.valueOf(row.get("priority", String.class)),
+                row.get("last_modified_date_time", LocalDateTime.class),
+                row.get("version", Long.class)
+        );
+    }
+}
@@ -0,0 +1,111 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InProgressLimiterTest extends TaskDatabaseTest {
+    private static final int STARTERS = 200;
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private InProgressLimiter inProgressLimiter;
+
+    @Test
+    void parallelStartersCannotExceedCap() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < STARTERS; i++) {
+            ids.add(taskService.createTask(new TaskDto(null, 1L, (long) i, null, null, null, null, null)).getId());
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(STARTERS);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (Long id : ids) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        taskService.startTask(id);
+                        return true;
+                    } catch (IllegalStateException rejected) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int started = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    started++;
+                }
+            }
+
+            long inProgress = taskRepository.countByStatus(TaskStatus.IN_PROGRESS);
+            assertThat(started).isEqualTo(TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS);
+            assertThat(inProgress).isEqualTo(started);
+            assertThat(counter(InProgressLimiter.IN_PROGRESS_COUNTER)).isEqualTo(inProgress);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void completingReleasesSlot() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i <= TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS; i++) {
+            ids.add(taskService.createTask(new TaskDto(null, 1L, 2L, null, null, null, null, null)).getId());
+        }
+        for (Long id : ids.subList(0, TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS)) {
+            taskService.startTask(id);
+        }
+        Long waiting = ids.get(TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS);
+
+        assertThatThrownBy(() -> taskService.startTask(waiting)).isInstanceOf(IllegalStateException.class);
+        taskService.completeTask(ids.get(0));
+        taskService.startTask(waiting);
+
+        assertThat(taskRepository.countByStatus(TaskStatus.IN_PROGRESS))
+                .isEqualTo(TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS)
+                .isEqualTo(counter(InProgressLimiter.IN_PROGRESS_COUNTER));
+    }
+
+    @Test
+    void concurrentReconcilesCreateCounterOnce() throws Exception {
+        taskService.startTask(taskService.createTask(new TaskDto(null, 1L, 2L, null, null, null, null, null)).getId());
+        jdbcTemplate.update("delete from task_counters where name = ?", InProgressLimiter.IN_PROGRESS_COUNTER);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    inProgressLimiter.reconcile();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(counter(InProgressLimiter.IN_PROGRESS_COUNTER)).isOne();
+    }
+}
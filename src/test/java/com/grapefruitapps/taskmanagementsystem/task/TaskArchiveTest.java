@@ -0,0 +1,114 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskArchiveTest extends TaskDatabaseTest {
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void bulkResumeRestoresOnlyAdmittedTasks() {
+        for (int i = 1; i < TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS; i++) {
+            taskService.startTask(create().getId());
+        }
+        Long first = archivedDone();
+        Long second = archivedDone();
+
+        List<TaskTransitionOutcome> outcomes = taskService.resumeTasks(List.of(first, second));
+
+        assertThat(outcomes).extracting(TaskTransitionOutcome::success).containsExactly(true, false);
+        assertThat(outcomes.get(1).task().getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(taskRepository.findDtoById(first)).get()
+                .extracting(TaskDto::getStatus).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(taskRepository.findDtoById(second)).isEmpty();
+        assertThat(taskRepository.findArchivedDtoById(second)).isPresent();
+        assertThat(counter(InProgressLimiter.IN_PROGRESS_COUNTER))
+                .isEqualTo(TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS);
+    }
+
+    @Test
+    void bulkResumeOfMaxBatchAdmitsUpToCap() {
+        List<TaskDto> tasks = new ArrayList<>();
+        for (int i = 0; i < TaskService.MAX_BATCH_SIZE; i++) {
+            tasks.add(new TaskDto(null, 1L, 7L, null, null, null, null, null));
+        }
+        List<Long> ids = taskService.createTasks(tasks);
+        jdbcTemplate.update("update tasks set status = 'DONE', done_date_time = now()");
+        List<Long> archived = new TransactionTemplate(transactionManager).execute(status -> taskRepository.archiveDone(
+                LocalDateTime.now().plusDays(1), TaskService.MAX_BATCH_SIZE, LocalDateTime.now()));
+        assertThat(archived).hasSize(TaskService.MAX_BATCH_SIZE);
+
+        List<List<TaskTransitionOutcome>> result = new ArrayList<>();
+        List<String> statements = CapturingStatementInspector.capture(() -> result.add(taskService.resumeTasks(ids)));
+
+        // the ids are bound as arrays, not as one parameter per id
+        assertThat(statements).allSatisfy(sql -> assertThat(sql.chars().filter(c -> c == '?')).hasSizeLessThan(20));
+        List<TaskTransitionOutcome> outcomes = result.get(0);
+        assertThat(outcomes).hasSize(TaskService.MAX_BATCH_SIZE);
+        assertThat(outcomes).filteredOn(TaskTransitionOutcome::success)
+                .hasSize(TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS);
+        assertThat(taskRepository.countByStatus(TaskStatus.IN_PROGRESS))
+                .isEqualTo(TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS);
+    }
+
+    @Test
+    void resumeOfMissingTaskIsNotFound() {
+        List<TaskTransitionOutcome> outcomes = taskService.resumeTasks(List.of(424242L));
+
+        assertThat(outcomes).singleElement().satisfies(outcome -> {
+            assertThat(outcome.success()).isFalse();
+            assertThat(outcome.task()).isNull();
+        });
+    }
+
+    @Test
+    void updateOfArchivedTaskIsRejected() {
+        Long id = archivedDone();
+        TaskDto patch = new TaskDto(null, 1L, 7L, null, null, null, null, TaskPriority.HIGH);
+
+        assertThatThrownBy(() -> taskService.updateTask(id, null, patch))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("archived");
+    }
+
+    @Test
+    void deleteOfArchivedTaskRemovesItFromArchive() {
+        Long id = archivedDone();
+
+        taskService.deleteTask(id);
+
+        assertThat(taskRepository.findArchivedDtoById(id)).isEmpty();
+        assertThat(counter(TaskStatsKeys.creator(1L, TaskStatus.DONE))).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from task_events where type = 'DELETED' and task_id = ?", Long.class, id))
+                .isOne();
+    }
+
+    private Long archivedDone() {
+        Long id = create().getId();
+        taskService.startTask(id);
+        taskService.completeTask(id);
+        List<Long> archived = new TransactionTemplate(transactionManager).execute(status ->
+                taskRepository.archiveDone(LocalDateTime.now().plusDays(1), 1000, LocalDateTime.now()));
+        assertThat(archived).containsExactly(id);
+        return id;
+    }
+
+    private TaskDto create() {
+        return taskService.createTask(new TaskDto(null, 1L, 7L, null, null, null, null, null));
+    }
+}
@@ -0,0 +1,85 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskBulkUpdateTest extends TaskDatabaseTest {
+    private static final LocalDate DEADLINE = LocalDate.now().plusDays(10);
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void countsEveryOutcome() {
+        Long updated = create(1L, TaskPriority.MEDIUM, null);
+        Long unchanged = create(1L, TaskPriority.HIGH, DEADLINE);
+        Long done = create(1L, TaskPriority.LOW, null);
+        taskService.startTask(done);
+        taskService.completeTask(done);
+        Long createdLater = create(1L, TaskPriority.LOW, null);
+        jdbcTemplate.update("update tasks set create_date_time = create_date_time + interval '20 days' where id = ?",
+                createdLater);
+        Long otherCreator = create(2L, TaskPriority.LOW, null);
+
+        TaskBulkUpdateResult result = taskService.bulkUpdateTasks(filterByCreator(1L),
+                new TaskPatch(null, TaskPriority.HIGH, DEADLINE));
+
+        assertThat(result).isEqualTo(new TaskBulkUpdateResult(4, 1, 1, 1, 1));
+        assertThat(taskRepository.findDtoById(updated)).get().satisfies(task -> {
+            assertThat(task.getPriority()).isEqualTo(TaskPriority.HIGH);
+            assertThat(task.getDeadlineDate()).isEqualTo(DEADLINE);
+        });
+        assertThat(taskRepository.findDtoById(unchanged)).get()
+                .extracting(TaskDto::getVersion).isEqualTo(0L);
+        assertThat(taskRepository.findDtoById(otherCreator)).get()
+                .extracting(TaskDto::getPriority).isEqualTo(TaskPriority.LOW);
+        assertThat(counter(TaskStatsKeys.statusPriority(TaskStatus.CREATED, TaskPriority.MEDIUM))).isZero();
+        assertThat(counter(TaskStatsKeys.statusPriority(TaskStatus.CREATED, TaskPriority.HIGH))).isEqualTo(2);
+        assertThat(counter(TaskStatsKeys.openDeadline(DEADLINE))).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from task_events where type = 'UPDATED'", Long.class)).isOne();
+    }
+
+    @Test
+    void updatesEveryChunk() {
+        List<TaskDto> tasks = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            tasks.add(new TaskDto(null, 3L, null, null, null, null, null, null));
+        }
+        taskService.createTasks(tasks);
+
+        TaskBulkUpdateResult result = taskService.bulkUpdateTasks(filterByCreator(3L),
+                new TaskPatch(5L, null, null));
+
+        assertThat(result).isEqualTo(new TaskBulkUpdateResult(2500, 2500, 0, 0, 0));
+        assertThat(counter(TaskStatsKeys.assignee(5L, TaskStatus.CREATED))).isEqualTo(2500);
+    }
+
+    @Test
+    void emptyFilterOrPatchIsRejected() {
+        TaskFilter everything = new TaskFilter(null, null, null, null, null, null, null);
+
+        assertThatThrownBy(() -> taskService.bulkUpdateTasks(everything, new TaskPatch(5L, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.bulkUpdateTasks(filterByCreator(1L), new TaskPatch(null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static TaskFilter filterByCreator(Long creatorId) {
+        return new TaskFilter(creatorId, null, null, null, null, null, null);
+    }
+
+    private Long create(Long creatorId, TaskPriority priority, LocalDate deadlineDate) {
+        return taskService.createTask(new TaskDto(null, creatorId, 7L, null, null, deadlineDate, null, priority))
+                .getId();
+    }
+}
@@ -0,0 +1,87 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskClaimTest extends TaskDatabaseTest {
+    private static final int CLAIMERS = 20;
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void claimsHighestPriorityOldestFirst() {
+        create(7L, TaskPriority.LOW);
+        Long medium = create(7L, TaskPriority.MEDIUM);
+        Long olderHigh = create(7L, TaskPriority.HIGH);
+        Long newerHigh = create(7L, TaskPriority.HIGH);
+
+        List<TaskDto> claimed = taskService.claimTasks(null, 3);
+
+        assertThat(claimed).extracting(TaskDto::getId).containsExactly(olderHigh, newerHigh, medium);
+        assertThat(claimed).extracting(TaskDto::getStatus).containsOnly(TaskStatus.IN_PROGRESS);
+        assertThat(counter(TaskStatsKeys.assignee(7L, TaskStatus.IN_PROGRESS))).isEqualTo(3);
+        assertThat(counter(TaskStatsKeys.assignee(7L, TaskStatus.CREATED))).isOne();
+        assertThat(counter(InProgressLimiter.IN_PROGRESS_COUNTER)).isEqualTo(3);
+    }
+
+    @Test
+    void unassignedTasksAreClaimedOnlyForUser() {
+        Long unassigned = create(null, TaskPriority.HIGH);
+
+        assertThat(taskService.claimTasks(null, 1)).isEmpty();
+        List<TaskDto> claimed = taskService.claimTasks(9L, 1);
+
+        assertThat(claimed).singleElement().satisfies(task -> {
+            assertThat(task.getId()).isEqualTo(unassigned);
+            assertThat(task.getAssignedUserId()).isEqualTo(9L);
+        });
+        assertThat(counter(TaskStatsKeys.assignee(9L, TaskStatus.IN_PROGRESS))).isOne();
+    }
+
+    @Test
+    void parallelClaimersNeitherExceedCapNorClaimTwice() throws Exception {
+        for (int i = 0; i < CLAIMERS * 2; i++) {
+            create((long) i, TaskPriority.values()[i % TaskPriority.values().length]);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CLAIMERS);
+        List<Future<List<TaskDto>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CLAIMERS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return taskService.claimTasks(null, 2);
+                }));
+            }
+            start.countDown();
+            List<Long> claimedIds = new ArrayList<>();
+            for (Future<List<TaskDto>> result : results) {
+                result.get().forEach(task -> claimedIds.add(task.getId()));
+            }
+
+            assertThat(claimedIds).doesNotHaveDuplicates().hasSize(TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS);
+            assertThat(taskRepository.countByStatus(TaskStatus.IN_PROGRESS))
+                    .isEqualTo(TaskService.MAX_COUNT_OF_TASKS_IN_PROGRESS)
+                    .isEqualTo(counter(InProgressLimiter.IN_PROGRESS_COUNTER));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long create(Long assignedUserId, TaskPriority priority) {
+        return taskService.createTask(new TaskDto(null, 1L, assignedUserId, null, null, null, null, priority)).getId();
+    }
+}
@@ -0,0 +1,72 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Application context against an embedded PostgreSQL shared by all database tests of the run.
+ * Tables are emptied and the in-progress counter reset before each test; background jobs that would
+ * change tasks underneath a test are disabled.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "task.archive.enabled=false",
+        "task.overdue.enabled=false",
+        "task.outbox.relay.enabled=false",
+        "task.outbox.publisher=memory",
+        "logging.level.com.grapefruitapps=INFO",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.grapefruitapps.taskmanagementsystem.task.CapturingStatementInspector"
+})
+abstract class TaskDatabaseTest {
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+    @Autowired
+    private InProgressLimiter inProgressLimiter;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @BeforeEach
+    void emptyTables() {
+        jdbcTemplate.execute("truncate tasks, tasks_archive, task_counters, task_events, task_event_relay_offsets"
+                + " restart identity");
+        inProgressLimiter.reconcile();
+    }
+
+    protected long counter(String name) {
+        return jdbcTemplate.query("select current_value from task_counters where name = ?",
+                rs -> rs.next() ? rs.getLong(1) : 0L, name);
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ignored) {
+                    // the JVM is exiting anyway
+                }
+            }));
+            return postgres;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEventRelayTest extends TaskDatabaseTest {
+    private static final int BATCH_SIZE = 10;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskEventRepository eventRepository;
+    @Autowired
+    private TaskEventRelayOffsetRepository offsetRepository;
+    @Autowired
+    private TaskEventLog eventLog;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TaskMetrics metrics;
+
+    @Test
+    void offsetAdvancesOnlyPastAcceptedPrefix() throws Exception {
+        List<String> events = createTasks(25);
+        InMemoryTaskEventPublisher publisher = new InMemoryTaskEventPublisher(15);
+        TaskEventRelay relay = relay(publisher);
+        relay.register();
+
+        relay.relay();
+
+        List<String> published = ids(publisher.drain(100));
+        assertThat(published).isEqualTo(events.subList(0, 15));
+        assertThat(offset()).isEqualTo(events.get(14));
+
+        Thread.sleep(POLL_INTERVAL.toMillis() * 2);
+        relay.relay();
+
+        assertThat(ids(publisher.drain(100))).isEqualTo(events.subList(15, 25));
+        assertThat(offset()).isEqualTo(events.get(24));
+    }
+
+    @Test
+    void backoffGrowsWhilePublisherAcceptsPartOfBatch() throws Exception {
+        createTasks(BATCH_SIZE);
+        List<Long> attempts = new ArrayList<>();
+        TaskEventRelay relay = relay(batch -> {
+            attempts.add(System.nanoTime());
+            return 1;
+        });
+        relay.register();
+
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (System.nanoTime() < end) {
+            relay.relay();
+            Thread.sleep(5);
+        }
+
+        // attempts after 50, 100, 200 and 400 ms of backoff
+        assertThat(attempts).hasSizeBetween(4, 6);
+        List<Long> gaps = new ArrayList<>();
+        for (int i = 1; i < attempts.size(); i++) {
+            gaps.add(attempts.get(i) - attempts.get(i - 1));
+        }
+        assertThat(gaps.get(0)).isGreaterThanOrEqualTo(POLL_INTERVAL.toNanos());
+        assertThat(gaps).isSorted();
+    }
+
+    @Test
+    void onlyOneInstanceRelaysAtATime() throws Exception {
+        List<String> events = createTasks(5);
+        CountDownLatch publishing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> publishedByFirst = new ArrayList<>();
+        TaskEventRelay first = relay(batch -> {
+            publishing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            publishedByFirst.addAll(ids(batch));
+            return batch.size();
+        });
+        InMemoryTaskEventPublisher secondPublisher = new InMemoryTaskEventPublisher(100);
+        TaskEventRelay second = relay(secondPublisher);
+        first.register();
+
+        CompletableFuture<Void> firstRelay = CompletableFuture.runAsync(first::relay);
+        try {
+            assertThat(publishing.await(5, TimeUnit.SECONDS)).isTrue();
+            second.relay();
+        } finally {
+            release.countDown();
+        }
+        firstRelay.get(5, TimeUnit.SECONDS);
+
+        assertThat(secondPublisher.drain(100)).isEmpty();
+        assertThat(publishedByFirst).isEqualTo(events);
+        assertThat(offset()).isEqualTo(events.get(4));
+    }
+
+    @Test
+    void cleanupIgnoresOffsetsOfInactiveRelays() {
+        createTasks(3);
+        jdbcTemplate.update("update task_events set occurred_at = occurred_at - interval '30 days'");
+        jdbcTemplate.update("""
+                insert into task_event_relay_offsets (name, transaction_id, event_id, heartbeat_date_time)
+                values ('active', 0, 0, ?), ('disabled', 0, 0, ?)
+                """, LocalDateTime.now(), LocalDateTime.now().minusDays(30));
+
+        eventLog.cleanup();
+        assertThat(eventCount()).isEqualTo(3);
+
+        jdbcTemplate.update("delete from task_event_relay_offsets where name = 'active'");
+        eventLog.cleanup();
+        assertThat(eventCount()).isZero();
+    }
+
+    private TaskEventRelay relay(TaskEventPublisher publisher) {
+        return new TaskEventRelay(eventRepository, offsetRepository, publisher, transactionManager, metrics,
+                BATCH_SIZE, 5, POLL_INTERVAL, Duration.ofSeconds(1));
+    }
+
+    private List<String> createTasks(int count) {
+        for (int i = 0; i < count; i++) {
+            taskService.createTask(new TaskDto(null, 1L, null, null, null, null, null, null));
+        }
+        return jdbcTemplate.queryForList(
+                "select transaction_id || '-' || id from task_events order by transaction_id, id", String.class);
+    }
+
+    private String offset() {
+        return jdbcTemplate.queryForObject(
+                "select transaction_id || '-' || event_id from task_event_relay_offsets where name = ?",
+                String.class, TaskEventRelay.RELAY_NAME);
+    }
+
+    private long eventCount() {
+        return jdbcTemplate.queryForObject("select count(*) from task_events", Long.class);
+    }
+
+    private static List<String> ids(List<TaskEventMessage> messages) {
+        return messages.stream().map(TaskEventMessage::id).toList();
+    }
+}
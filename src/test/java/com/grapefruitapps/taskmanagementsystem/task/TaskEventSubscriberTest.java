@@ -0,0 +1,101 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEventSubscriberTest {
+    private static final TaskFilter ALL = new TaskFilter(null, null, null, null, null, null, null);
+
+    private final ExecutorService sender = Executors.newCachedThreadPool();
+    private final SlowEmitter emitter = new SlowEmitter();
+
+    @AfterEach
+    void shutdown() {
+        emitter.release.countDown();
+        sender.shutdownNow();
+    }
+
+    @Test
+    void slowClientDoesNotBlockDelivery() throws Exception {
+        TaskEventSubscriber subscriber = new TaskEventSubscriber(emitter, ALL, TaskEventPosition.START, 2, sender);
+
+        subscriber.deliver(event(1));
+        assertThat(emitter.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        subscriber.deliver(event(2));
+        subscriber.deliver(event(3));
+
+        assertThat(subscriber.isClosed()).isFalse();
+        emitter.release.countDown();
+        assertThat(awaitSent(3)).isTrue();
+        assertThat(emitter.completed.getCount()).isOne();
+    }
+
+    @Test
+    void overflowingClientIsDisconnected() throws Exception {
+        TaskEventSubscriber subscriber = new TaskEventSubscriber(emitter, ALL, TaskEventPosition.START, 2, sender);
+
+        subscriber.deliver(event(1));
+        assertThat(emitter.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int id = 2; id <= 4; id++) {
+            subscriber.deliver(event(id));
+        }
+
+        assertThat(subscriber.isClosed()).isTrue();
+        emitter.release.countDown();
+        assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.sent.get()).isOne();
+    }
+
+    private boolean awaitSent(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.sent.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return emitter.sent.get() == count;
+    }
+
+    private static TaskEventEntity event(long id) {
+        TaskDto task = new TaskDto(id, 1L, 2L, TaskStatus.CREATED, null, null, null, TaskPriority.MEDIUM);
+        TaskEventEntity event = new TaskEventEntity(TaskEventType.CREATED, task, LocalDateTime.now(), "{}");
+        ReflectionTestUtils.setField(event, "transactionId", 1L);
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    /**
+     * Blocks every send until released, like a client that stopped reading.
+     */
+    private static class SlowEmitter extends SseEmitter {
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        final AtomicInteger sent = new AtomicInteger();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+}
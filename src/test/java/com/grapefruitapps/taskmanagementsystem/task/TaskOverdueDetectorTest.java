@@ -0,0 +1,91 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskOverdueDetectorTest extends TaskDatabaseTest {
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TaskEventLog eventLog;
+    @Autowired
+    private TaskMetrics metrics;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TaskOverdueDetector detector;
+
+    @BeforeEach
+    void createDetector() {
+        // a batch size below the number of overdue tasks makes the scan continue after a keyset position
+        detector = new TaskOverdueDetector(taskRepository, eventLog, metrics, transactionManager, 2);
+    }
+
+    @Test
+    void marksOverdueTasksOnce() {
+        Long first = create(TODAY.minusDays(3));
+        Long second = create(TODAY.minusDays(2));
+        Long third = create(TODAY.minusDays(1));
+        Long started = create(TODAY.minusDays(1));
+        taskService.startTask(started);
+        Long done = create(TODAY.minusDays(1));
+        taskService.startTask(done);
+        taskService.completeTask(done);
+        Long dueToday = create(TODAY);
+        Long withoutDeadline = taskService.createTask(new TaskDto(null, 1L, 7L, null, null, null, null, null))
+                .getId();
+
+        detector.detect();
+        detector.detect();
+
+        assertThat(overdueIds()).containsExactlyInAnyOrder(first, second, third, started);
+        assertThat(overdueEvents()).containsExactlyInAnyOrder(first, second, third, started);
+        assertThat(List.of(done, dueToday, withoutDeadline)).doesNotContainAnyElementsOf(overdueIds());
+    }
+
+    @Test
+    void deadlineChangeClearsMarkAndTaskIsReportedAgain() {
+        Long id = create(TODAY.minusDays(10));
+        detector.detect();
+
+        taskService.updateTask(id, null, new TaskDto(null, 1L, 7L, null, null, TODAY.minusDays(5), null, null));
+
+        assertThat(overdueIds()).isEmpty();
+        detector.detect();
+        assertThat(overdueIds()).containsExactly(id);
+        assertThat(overdueEvents()).containsExactly(id, id);
+    }
+
+    /**
+     * Creates a task whose creation date lies before the deadline, which may be in the past.
+     */
+    private Long create(LocalDate deadlineDate) {
+        Long id = taskService.createTask(new TaskDto(null, 1L, 7L, null, null, TODAY.plusDays(1), null, null))
+                .getId();
+        jdbcTemplate.update("""
+                update tasks set create_date_time = create_date_time - interval '30 days', deadline_date = ?
+                where id = ?
+                """, deadlineDate, id);
+        return id;
+    }
+
+    private List<Long> overdueIds() {
+        return jdbcTemplate.queryForList("select id from tasks where overdue_date_time is not null", Long.class);
+    }
+
+    private List<Long> overdueEvents() {
+        return jdbcTemplate.queryForList(
+                "select task_id from task_events where type = 'OVERDUE' order by id", Long.class);
+    }
+}
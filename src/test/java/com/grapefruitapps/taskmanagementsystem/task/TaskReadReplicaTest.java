@@ -0,0 +1,159 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Routing of reads to a replica. The replica is a second embedded PostgreSQL with the tables of the
+ * primary but its own rows, so a result shows which database served it. Its reported lag is read from
+ * a table the test controls.
+ */
+class TaskReadReplicaTest extends TaskDatabaseTest {
+    private static final long PROBE_CREATOR_ID = 999L;
+    private static final long REPLICA_TASK_ID = 1_000_000L;
+
+    private static final EmbeddedPostgres REPLICA = startReplica();
+    private static final JdbcTemplate REPLICA_JDBC = new JdbcTemplate(REPLICA.getPostgresDatabase());
+    private static boolean replicaSchemaCopied;
+
+    @Autowired
+    private TaskService taskService;
+
+    @DynamicPropertySource
+    static void replica(DynamicPropertyRegistry registry) {
+        registry.add("task.datasource.replica.urls", () -> REPLICA.getJdbcUrl("postgres", "postgres"));
+        registry.add("task.datasource.replica.health-check-interval", () -> "100ms");
+        registry.add("task.datasource.replica.lag-query", () -> "select seconds from replica_lag");
+    }
+
+    @BeforeEach
+    void resetReplica() {
+        if (!replicaSchemaCopied) {
+            copySchemaToReplica();
+            replicaSchemaCopied = true;
+        }
+        REPLICA_JDBC.execute("truncate tasks");
+        insertIntoReplica(REPLICA_TASK_ID - 1, PROBE_CREATOR_ID);
+        REPLICA_JDBC.update("update replica_lag set seconds = 0");
+        awaitReads(() -> !search(PROBE_CREATOR_ID).isEmpty());
+    }
+
+    @Test
+    void readOnlyCallsReadFromReplica() {
+        insertIntoReplica(REPLICA_TASK_ID, 42L);
+
+        assertThat(search(42L)).containsExactly(REPLICA_TASK_ID);
+        TaggedTaskSlice page = taskService.searchAllByFilterIfChanged(filterByCreator(42L), false, tag -> false);
+        assertThat(page.slice().tasks()).extracting(TaskDto::getId).containsExactly(REPLICA_TASK_ID);
+        assertThat(page.tag()).isEqualTo(TaskPageTag.of(List.of(new TaskStamp(REPLICA_TASK_ID, 3L))));
+    }
+
+    @Test
+    void writesAndReadsByIdUsePrimary() {
+        insertIntoReplica(REPLICA_TASK_ID, 42L);
+
+        Long id = taskService.createTask(new TaskDto(null, 43L, null, null, null, null, null, null)).getId();
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from tasks where id = ?", Long.class, id)).isOne();
+        assertThat(REPLICA_JDBC.queryForObject("select count(*) from tasks where id = ?", Long.class, id)).isZero();
+        assertThat(taskService.getTaskById(id).getCreatorId()).isEqualTo(43L);
+        assertThatThrownBy(() -> taskService.getTaskById(REPLICA_TASK_ID))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(search(43L)).isEmpty();
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhileReplicaLags() {
+        Long id = taskService.createTask(new TaskDto(null, 43L, null, null, null, null, null, null)).getId();
+        assertThat(search(43L)).isEmpty();
+
+        REPLICA_JDBC.update("update replica_lag set seconds = 60");
+
+        awaitReads(() -> search(43L).contains(id));
+        assertThat(search(PROBE_CREATOR_ID)).isEmpty();
+    }
+
+    private List<Long> search(long creatorId) {
+        return taskService.searchAllByFilter(filterByCreator(creatorId)).tasks().stream()
+                .map(TaskDto::getId)
+                .toList();
+    }
+
+    private static TaskFilter filterByCreator(long creatorId) {
+        return new TaskFilter(creatorId, null, null, null, null, null, null);
+    }
+
+    private static void awaitReads(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("reads routed in time").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static void insertIntoReplica(long id, long creatorId) {
+        REPLICA_JDBC.update("""
+                insert into tasks (id, creator_id, status, priority, create_date_time, last_modified_date_time, version)
+                values (?, ?, 'CREATED', 'MEDIUM', now(), now(), 3)
+                """, id, creatorId);
+    }
+
+    /**
+     * Creates the primary's tables, columns only, on the replica.
+     */
+    private void copySchemaToReplica() {
+        List<Map<String, Object>> tables = jdbcTemplate.queryForList("""
+                select c.relname as name,
+                       string_agg(quote_ident(a.attname) || ' ' || format_type(a.atttypid, a.atttypmod), ', '
+                                  order by a.attnum) as columns
+                from pg_class c
+                join pg_attribute a on a.attrelid = c.oid and a.attnum > 0 and not a.attisdropped
+                where c.relnamespace = 'public'::regnamespace and c.relkind in ('r', 'p') and not c.relispartition
+                group by c.relname
+                """);
+        for (Map<String, Object> table : tables) {
+            REPLICA_JDBC.execute("create table " + table.get("name") + " (" + table.get("columns") + ")");
+        }
+    }
+
+    private static EmbeddedPostgres startReplica() {
+        try {
+            EmbeddedPostgres replica = EmbeddedPostgres.start();
+            new JdbcTemplate(replica.getPostgresDatabase()).execute("""
+                    create table replica_lag (seconds float8 not null);
+                    insert into replica_lag values (0)
+                    """);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    replica.close();
+                } catch (IOException ignored) {
+                    // the JVM is exiting anyway
+                }
+            }));
+            return replica;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
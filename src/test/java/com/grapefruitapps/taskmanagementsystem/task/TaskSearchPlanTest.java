@@ -0,0 +1,130 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with EXPLAIN that the searches {@link TaskService} runs for selective filters are served
+ * by the composite indexes declared on {@link TaskEntity} rather than a scan of {@code tasks}.
+ * The statement is the one Hibernate generates from {@link TaskSpecifications}, bound to the filter
+ * values in predicate order followed by the paging values.
+ */
+class TaskSearchPlanTest extends TaskDatabaseTest {
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void populate() {
+        // 100k tasks of 1000 creators and assignees; open tasks are rare, as in a long-lived system
+        jdbcTemplate.update("""
+                insert into tasks (id, creator_id, assigned_user_id, status, priority, create_date_time,
+                                   deadline_date, last_modified_date_time, version)
+                select i, i % 1000, (i * 7) % 1000,
+                       case when i % 1000 = 0 then 'IN_PROGRESS' when i % 200 = 0 then 'CREATED' else 'DONE' end,
+                       (array['LOW', 'MEDIUM', 'HIGH'])[i % 3 + 1],
+                       now(), current_date + (i % 60), now(), 0
+                from generate_series(1, 100000) i
+                """);
+        jdbcTemplate.execute("analyze tasks");
+    }
+
+    static Stream<Arguments> searches() {
+        return Stream.of(
+                search("creator", filter(42L, null, null, null, null),
+                        List.of(42L), "idx_tasks_creator_id_status"),
+                search("creator and status", filter(42L, null, TaskStatus.CREATED, null, null),
+                        List.of(42L, "CREATED"), "idx_tasks_creator_id_status"),
+                search("creator after id", filter(42L, null, null, null, 50000L),
+                        List.of(42L, 50000L), "idx_tasks_creator_id_status"),
+                search("assignee", filter(null, 42L, null, null, null),
+                        List.of(42L), "idx_tasks_assigned_user_id_status"),
+                search("assignee and status", filter(null, 42L, TaskStatus.CREATED, null, null),
+                        List.of(42L, "CREATED"), "idx_tasks_assigned_user_id_status"),
+                search("status and priority", filter(null, null, TaskStatus.IN_PROGRESS, TaskPriority.HIGH, null),
+                        List.of("IN_PROGRESS", "HIGH"), "idx_tasks_status_priority_create_date_time"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("searches")
+    void selectiveSearchUsesIndex(String name, TaskFilter filter, List<Object> values, String index) {
+        String sql = captureTaskQuery(() -> taskService.searchAllByFilter(filter, false));
+
+        assertThat(explain(sql, values)).contains(index);
+    }
+
+    @Test
+    void overdueSearchUsesIndex() {
+        String sql = captureTaskQuery(() -> taskService.searchOverdue(filter(null, null, null, null, null)));
+
+        assertThat(explain(sql, List.of("CREATED", "IN_PROGRESS", TODAY))).contains("idx_tasks_status_deadline_date");
+    }
+
+    @Test
+    void overdueScanUsesPartialIndex() {
+        // most open tasks past their deadline have already been reported
+        jdbcTemplate.update("""
+                update tasks set deadline_date = current_date - 1 - cast(id % 30 as int),
+                                 overdue_date_time = case when id % 4000 = 0 then null else now() end
+                where status = 'CREATED'
+                """);
+        jdbcTemplate.execute("analyze tasks");
+        List<String> statements = CapturingStatementInspector.capture(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> taskRepository.markOverdue(
+                        TaskStatus.CREATED, TODAY, null, null, 1000, LocalDateTime.now())));
+        String lock = statements.stream().filter(sql -> sql.contains("skip locked")).findFirst().orElseThrow();
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("explain " + lock, String.class,
+                "CREATED", TODAY, 1000));
+        assertThat(plan).contains("idx_tasks_status_deadline_date_unreported");
+    }
+
+    private static Arguments search(String name, TaskFilter filter, List<Object> values, String index) {
+        return Arguments.of(name, filter, values, index);
+    }
+
+    private static TaskFilter filter(Long creatorId, Long assignedUserId, TaskStatus status, TaskPriority priority,
+                                     Long afterId) {
+        return new TaskFilter(creatorId, assignedUserId, status, priority, null, null, afterId);
+    }
+
+    private static String captureTaskQuery(Runnable search) {
+        List<String> statements = CapturingStatementInspector.capture(search);
+        assertThat(statements).singleElement().asString().contains(" from tasks ");
+        return statements.get(0);
+    }
+
+    /**
+     * @param values bind values of the filter predicates; the remaining parameters are the paging values
+     */
+    private String explain(String sql, List<Object> values) {
+        List<Object> parameters = new ArrayList<>(values);
+        long placeholders = sql.chars().filter(c -> c == '?').count();
+        if (placeholders - values.size() == 2) {
+            parameters.add(0);
+        }
+        parameters.add(TaskService.DEFAULT_PAGE_SIZE);
+        assertThat(parameters).hasSize((int) placeholders);
+
+        return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, parameters.toArray()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSequenceMigrationTest extends TaskDatabaseTest {
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void sequenceIsMovedPastIdsOfIdentityEra() {
+        // a task inserted while tasks.id was an identity column, ahead of the sequence
+        long legacyId = sequenceValue() + 1000;
+        jdbcTemplate.update("""
+                insert into tasks (id, creator_id, status, priority, create_date_time, last_modified_date_time, version)
+                values (?, 1, 'CREATED', 'MEDIUM', now(), now(), 0)
+                """, legacyId);
+
+        runSchemaScript();
+        runSchemaScript();
+
+        // the next block of pooled ids starts after the sequence value; blocks this JVM already holds are
+        // not affected, which is why the check is on the sequence rather than on a created task
+        assertThat(sequenceValue()).isGreaterThanOrEqualTo(legacyId);
+    }
+
+    @Test
+    void sequenceIsNeverMovedBack() {
+        taskService.createTask(new TaskDto(null, 1L, null, null, null, null, null, null));
+        long before = sequenceValue();
+        jdbcTemplate.execute("truncate tasks");
+
+        runSchemaScript();
+
+        assertThat(sequenceValue()).isEqualTo(before);
+    }
+
+    private long sequenceValue() {
+        return jdbcTemplate.queryForObject("select last_value from tasks_seq", Long.class);
+    }
+
+    private void runSchemaScript() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+    }
+}
@@ -0,0 +1,110 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskStatsReconcileTest extends TaskDatabaseTest {
+    private static final int WRITERS = 4;
+    private static final int TASKS_PER_WRITER = 50;
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskStatsService statsService;
+
+    @Test
+    void reconcileRepairsDriftedMissingAndStaleCounters() {
+        TaskDto task = create(7L);
+        taskService.startTask(task.getId());
+        String assignee = TaskStatsKeys.assignee(7L, TaskStatus.IN_PROGRESS);
+        String creator = TaskStatsKeys.creator(1L, TaskStatus.IN_PROGRESS);
+        String stale = TaskStatsKeys.creator(999L, TaskStatus.CREATED);
+        jdbcTemplate.update("update task_counters set current_value = 42 where name = ?", assignee);
+        jdbcTemplate.update("delete from task_counters where name = ?", creator);
+        jdbcTemplate.update("insert into task_counters (name, current_value) values (?, 3)", stale);
+
+        statsService.reconcile();
+
+        assertThat(counter(assignee)).isOne();
+        assertThat(counter(creator)).isOne();
+        assertThat(counter(stale)).isZero();
+        assertThat(counter(InProgressLimiter.IN_PROGRESS_COUNTER)).isOne();
+    }
+
+    @Test
+    void reconcileKeepsConcurrentMutations() throws Exception {
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                long assignee = w;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < TASKS_PER_WRITER; i++) {
+                        TaskDto task = create(assignee);
+                        if (i % 2 == 0) {
+                            taskService.deleteTask(task.getId());
+                        }
+                    }
+                }));
+            }
+            Future<?> reconciler = executor.submit(() -> {
+                while (writing.get()) {
+                    statsService.reconcile();
+                }
+            });
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            writing.set(false);
+            reconciler.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Map<String, Object>> wrong = jdbcTemplate.queryForList("""
+                select t.assigned_user_id, count(*) as actual, c.current_value
+                from tasks t
+                join task_counters c on c.name = 'assignee:' || t.assigned_user_id || ':' || t.status
+                group by t.assigned_user_id, t.status, c.current_value
+                having count(*) <> c.current_value
+                """);
+        assertThat(wrong).isEmpty();
+        assertThat(counter(TaskStatsKeys.statusPriority(TaskStatus.CREATED, TaskPriority.MEDIUM)))
+                .isEqualTo(WRITERS * TASKS_PER_WRITER / 2);
+    }
+
+    @Test
+    void maxBatchOfDistinctUsersUpdatesEveryCounter() {
+        List<TaskDto> tasks = new ArrayList<>();
+        for (long user = 0; user < TaskService.MAX_BATCH_SIZE; user++) {
+            tasks.add(new TaskDto(null, user, user, null, null, LocalDate.now().plusDays(user + 1), null, null));
+        }
+
+        taskService.createTasks(tasks);
+
+        assertThat(counter(TaskStatsKeys.creator(0L, TaskStatus.CREATED))).isOne();
+        assertThat(counter(TaskStatsKeys.assignee(TaskService.MAX_BATCH_SIZE - 1L, TaskStatus.CREATED))).isOne();
+        assertThat(counter(TaskStatsKeys.statusPriority(TaskStatus.CREATED, TaskPriority.MEDIUM)))
+                .isEqualTo(TaskService.MAX_BATCH_SIZE);
+        assertThat(jdbcTemplate.queryForObject("""
+                select count(*) from task_counters
+                where name like 'creator:%' or name like 'assignee:%' or name like 'open_deadline:%'
+                """, Long.class)).isEqualTo(3L * TaskService.MAX_BATCH_SIZE);
+    }
+
+    private TaskDto create(Long assignedUserId) {
+        return taskService.createTask(new TaskDto(null, 1L, assignedUserId, null, null, null, null, null));
+    }
+}
@@ -0,0 +1,88 @@
+package com.grapefruitapps.taskmanagementsystem.task;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskTransitionTest extends TaskDatabaseTest {
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void lifecycleMovesStatusAndCounters() {
+        TaskDto task = create(7L);
+
+        TaskDto started = taskService.startTask(task.getId());
+        assertThat(started.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(started.getVersion()).isEqualTo(task.getVersion() + 1);
+        assertThat(counter(TaskStatsKeys.assignee(7L, TaskStatus.CREATED))).isZero();
+        assertThat(counter(TaskStatsKeys.assignee(7L, TaskStatus.IN_PROGRESS))).isOne();
+
+        TaskDto completed = taskService.completeTask(task.getId());
+        assertThat(completed.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(completed.getDoneDateTime()).isNotNull();
+        assertThat(counter(InProgressLimiter.IN_PROGRESS_COUNTER)).isZero();
+
+        TaskDto resumed = taskService.resumeTask(task.getId());
+        assertThat(resumed.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(counter(TaskStatsKeys.assignee(7L, TaskStatus.DONE))).isZero();
+        assertThat(counter(TaskStatsKeys.assignee(7L, TaskStatus.IN_PROGRESS))).isOne();
+        assertThat(counter(InProgressLimiter.IN_PROGRESS_COUNTER)).isOne();
+    }
+
+    @Test
+    void missingTaskIsNotFound() {
+        assertThatThrownBy(() -> taskService.startTask(424242L)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void wrongStatusIsRejectedWithoutChange() {
+        TaskDto task = create(7L);
+
+        assertThatThrownBy(() -> taskService.completeTask(task.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("status = CREATED");
+        assertThat(taskService.getTaskById(task.getId()).getVersion()).isEqualTo(task.getVersion());
+        assertThat(counter(TaskStatsKeys.assignee(7L, TaskStatus.CREATED))).isOne();
+    }
+
+    @Test
+    void startWithoutExecutorIsRejectedAndFreesNoSlot() {
+        TaskDto task = create(null);
+
+        assertThatThrownBy(() -> taskService.startTask(task.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Task must have an executor");
+        assertThat(counter(InProgressLimiter.IN_PROGRESS_COUNTER)).isZero();
+    }
+
+    @Test
+    void bulkTransitionReportsEachDistinctIdOnce() {
+        TaskDto task = create(7L);
+        TaskDto done = create(7L);
+        taskService.startTask(done.getId());
+        taskService.completeTask(done.getId());
+
+        List<TaskTransitionOutcome> outcomes = taskService.startTasks(
+                List.of(task.getId(), task.getId(), done.getId(), 424242L));
+
+        assertThat(outcomes).extracting(TaskTransitionOutcome::id)
+                .containsExactly(task.getId(), done.getId(), 424242L);
+        assertThat(outcomes).extracting(TaskTransitionOutcome::success).containsExactly(true, false, false);
+        assertThat(counter(TaskStatsKeys.assignee(7L, TaskStatus.IN_PROGRESS))).isOne();
+        assertThat(counter(TaskStatsKeys.assignee(7L, TaskStatus.CREATED))).isZero();
+        assertThat(counter(InProgressLimiter.IN_PROGRESS_COUNTER)).isOne();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from task_events where type = 'STARTED' and task_id = ?", Long.class, task.getId()))
+                .isOne();
+    }
+
+    private TaskDto create(Long assignedUserId) {
+        return taskService.createTask(new TaskDto(null, 1L, assignedUserId, null, null, null, null, null));
+    }
+}